@@ -0,0 +1,100 @@
+package com.example.bingo.load;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-endpoint latency histograms, error counts and throughput, shared by all simulated clients.
+ * Latencies are recorded in microseconds with three significant digits.
+ */
+final class LatencyRecorder {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    LatencyRecorder(List<String> names) {
+        for (String name : names) {
+            endpoints.put(name, new Endpoint());
+        }
+    }
+
+    /**
+     * @param startNanos when the request should have been sent, so that a stalled server is not
+     *                   hidden by clients that simply send fewer requests
+     */
+    void record(String endpoint, long startNanos, boolean ok) {
+        long now = System.nanoTime();
+        Endpoint stats = endpoints.get(endpoint);
+        stats.histogram.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(0, (now - startNanos) / 1_000)));
+        if (!ok) {
+            stats.errors.increment();
+        }
+        stats.firstNanos.accumulate(now);
+        stats.lastNanos.accumulate(now);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((name, stats) -> {
+            Histogram histogram = stats.histogram;
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            out.printf("%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    name,
+                    histogram.getTotalCount(),
+                    stats.errors.sum(),
+                    stats.throughput(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        });
+    }
+
+    void writeTo(ObjectNode json) {
+        endpoints.forEach((name, stats) -> {
+            Histogram histogram = stats.histogram;
+            ObjectNode node = json.putObject(name);
+            node.put("requests", histogram.getTotalCount());
+            node.put("errors", stats.errors.sum());
+            node.put("throughput", stats.throughput());
+            node.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            node.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+            node.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            node.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+            node.put("maxMs", millis(histogram.getMaxValue()));
+        });
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static final class Endpoint {
+        final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAccumulator firstNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        final LongAccumulator lastNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        /**
+         * Completed requests per second between the first and the last completion.
+         */
+        double throughput() {
+            long count = histogram.getTotalCount();
+            long elapsed = lastNanos.get() - firstNanos.get();
+            return count < 2 || elapsed <= 0 ? count : (count - 1) * 1e9 / elapsed;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.example.bingo.load;
+
+import com.example.bingo.BingoBackendApplication;
+import com.example.bingo.model.ClaimType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Simulates a whole event through the public HTTP API and reports per-endpoint latency percentiles
+ * and throughput.
+ * <p>
+ * The run has two phases. In the join phase {@code --threads} clients register the players, lease a
+ * preview and pick one of its cards, retrying with a fresh preview when the card was taken. In the
+ * play phase the host starts the game and draws at a fixed cadence while every player polls the
+ * state delta at its own fixed rate and claims each pattern as soon as its marks complete it.
+ * Poll and draw latencies are measured from when the request was due rather than when it was
+ * sent, so a saturated server shows up as latency instead of as fewer requests.
+ * <p>
+ * By default the application is started in this JVM on a random port. Pass {@code --base-url} to
+ * load a separately deployed server instead, which is what hardware sizing should use. Any
+ * {@code --bingo.*}, {@code --server.*} or {@code --spring.*} option is passed on to the in-process
+ * application, which is sized with {@code bingo.players.max} for {@code --players} unless that is
+ * given too. Players that could not join are counted by endpoint and status in the report. All
+ * random choices come from {@code --seed}, so runs with the same options are comparable.
+ */
+public final class LoadSimulator {
+
+    private static final List<String> ENDPOINTS =
+            List.of("reset", "register", "preview", "select", "start", "poll", "draw", "claim");
+    private static final String HOST_KEY_HEADER = "X-Host-Key";
+    private static final int PREVIEW_SIZE = 6;
+    private static final int SELECT_ATTEMPTS = 5;
+
+    private final Options options;
+    private final URI room;
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+    private final LatencyRecorder latencies = new LatencyRecorder(ENDPOINTS);
+    private final LongAdder acceptedClaims = new LongAdder();
+    private final AtomicInteger joined = new AtomicInteger();
+    // Players that could not join, by the endpoint and status that turned them away.
+    private final ConcurrentMap<String, LongAdder> rejectedJoins = new ConcurrentHashMap<>();
+
+    LoadSimulator(Options options, URI baseUrl) {
+        this.options = options;
+        this.room = baseUrl.resolve("/api/rooms/" + options.room + "/");
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        ConfigurableApplicationContext app = null;
+        URI baseUrl = options.baseUrl;
+        if (baseUrl == null) {
+            List<String> appArgs = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--bingo.host-key=" + options.hostKey,
+                    "--bingo.players.max=" + options.players,
+                    "--spring.datasource.url=jdbc:h2:mem:load",
+                    "--spring.main.banner-mode=off",
+                    "--logging.level.root=WARN"));
+            for (String arg : options.applicationArgs) {
+                String name = arg.substring(0, arg.indexOf('=') + 1);
+                appArgs.removeIf(defaults -> defaults.startsWith(name));
+                appArgs.add(arg);
+            }
+            app = new SpringApplicationBuilder(BingoBackendApplication.class).run(appArgs.toArray(String[]::new));
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            baseUrl = URI.create("http://localhost:" + port);
+        }
+        try {
+            new LoadSimulator(options, baseUrl).run();
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    void run() throws Exception {
+        System.out.printf("Simulating %d players on %s with %d client threads, seed %d%n",
+                options.players, room, options.threads, options.seed);
+        send("reset", post("game/reset?dropPlayers=true", null, true), System.nanoTime());
+
+        Random random = new Random(options.seed);
+        List<VirtualPlayer> players = new ArrayList<>(options.players);
+        List<Long> picks = new ArrayList<>(options.players);
+        for (int index = 0; index < options.players; index++) {
+            players.add(new VirtualPlayer("Player %05d".formatted(index)));
+            picks.add(random.nextLong());
+        }
+
+        long joinStarted = System.nanoTime();
+        ExecutorService clients = Executors.newFixedThreadPool(options.threads);
+        List<Future<?>> joins = new ArrayList<>(players.size());
+        for (int index = 0; index < players.size(); index++) {
+            VirtualPlayer player = players.get(index);
+            Random pick = new Random(picks.get(index));
+            joins.add(clients.submit(() -> join(player, pick)));
+        }
+        for (Future<?> join : joins) {
+            join.get();
+        }
+        clients.shutdown();
+        double joinSeconds = (System.nanoTime() - joinStarted) / 1e9;
+        System.out.printf("Join phase: %d of %d players seated in %.1fs%n", joined.get(), players.size(), joinSeconds);
+        if (!rejectedJoins.isEmpty()) {
+            System.out.printf("Players turned away: %s%n", rejectedJoins);
+        }
+
+        long playStarted = System.nanoTime();
+        send("start", post("game/start", null, true), System.nanoTime());
+        ScheduledExecutorService pollers = Executors.newScheduledThreadPool(options.threads);
+        long period = options.pollInterval.toNanos();
+        for (int index = 0; index < players.size(); index++) {
+            VirtualPlayer player = players.get(index);
+            if (player.id == null) {
+                continue;
+            }
+            long offset = period * index / players.size();
+            player.nextPollNanos = System.nanoTime() + offset;
+            pollers.scheduleAtFixedRate(() -> poll(player), offset, period, TimeUnit.NANOSECONDS);
+        }
+        int draws = hostDraws();
+        Thread.sleep(2 * options.pollInterval.toMillis());
+        pollers.shutdownNow();
+        pollers.awaitTermination(30, TimeUnit.SECONDS);
+        double playSeconds = (System.nanoTime() - playStarted) / 1e9;
+        long finished = players.stream().filter(player -> player.finished).count();
+        System.out.printf("Play phase: %d draws and %d accepted claims in %.1fs, %d players saw the game complete%n%n",
+                draws, acceptedClaims.sum(), playSeconds, finished);
+
+        latencies.print(System.out);
+        writeResult(joinSeconds, playSeconds, draws);
+    }
+
+    private void join(VirtualPlayer player, Random pick) {
+        try {
+            HttpResponse<byte[]> registered = send("register",
+                    post("players", Map.of("displayName", player.displayName), false), System.nanoTime());
+            if (registered.statusCode() != 200) {
+                reject("register", registered.statusCode());
+                return;
+            }
+            player.id = UUID.fromString(json.readTree(registered.body()).get("playerId").asText());
+            for (int attempt = 0; attempt < SELECT_ATTEMPTS; attempt++) {
+                HttpResponse<byte[]> preview = send("preview",
+                        get("scorecards?count=" + PREVIEW_SIZE + "&playerId=" + player.id), System.nanoTime());
+                if (preview.statusCode() != 200) {
+                    reject("preview", preview.statusCode());
+                    return;
+                }
+                JsonNode cards = json.readTree(preview.body()).get("scorecards");
+                JsonNode card = cards.get(pick.nextInt(cards.size()));
+                HttpResponse<byte[]> selected = send("select",
+                        post("players/" + player.id + "/scorecard", Map.of("scorecardId", card.get("id").asText()), false),
+                        System.nanoTime());
+                if (selected.statusCode() == 200) {
+                    player.holdCard(card);
+                    joined.incrementAndGet();
+                    return;
+                }
+                if (attempt == SELECT_ATTEMPTS - 1) {
+                    reject("select", selected.statusCode());
+                }
+            }
+        } catch (IOException e) {
+            reject("join", 0);
+            System.err.println("Join failed for " + player.displayName + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Counts a player that could not join; status 0 stands for an I/O failure at any step.
+     */
+    private void reject(String endpoint, int status) {
+        rejectedJoins.computeIfAbsent(endpoint + " " + status, key -> new LongAdder()).increment();
+    }
+
+    private void poll(VirtualPlayer player) {
+        long due = player.nextPollNanos;
+        player.nextPollNanos += options.pollInterval.toNanos();
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(room.resolve("game/state?since=" + player.version));
+            if (player.version >= 0) {
+                request.header("If-None-Match", "\"" + player.version + "\"");
+            }
+            HttpResponse<byte[]> response = send("poll", request.GET().build(), due);
+            if (response.statusCode() != 200) {
+                return;
+            }
+            for (ClaimType type : player.observe(json.readTree(response.body()))) {
+                HttpResponse<byte[]> claim = send("claim",
+                        post("game/claim", Map.of("playerId", player.id, "claimType", type), false), System.nanoTime());
+                if (claim.statusCode() == 200 && json.readTree(claim.body()).get("accepted").asBoolean()) {
+                    acceptedClaims.increment();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Poll failed for " + player.displayName + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Draws at a fixed rate until the configured number of calls, or until the game completes.
+     */
+    private int hostDraws() throws IOException, InterruptedException {
+        long period = options.drawInterval.toNanos();
+        long due = System.nanoTime() + period;
+        for (int draw = 0; draw < options.draws; draw++) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            HttpResponse<byte[]> response = send("draw", post("game/draw", null, true), due);
+            due += period;
+            if (response.statusCode() != 200
+                    || "COMPLETE".equals(json.readTree(response.body()).get("status").asText())) {
+                return draw + 1;
+            }
+        }
+        return options.draws;
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request, long dueNanos)
+            throws IOException, InterruptedException {
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            latencies.record(endpoint, dueNanos, status == 200 || status == 304);
+            return response;
+        } catch (IOException e) {
+            latencies.record(endpoint, dueNanos, false);
+            throw e;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(room.resolve(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body, boolean host) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(room.resolve(path));
+        if (host) {
+            request.header(HOST_KEY_HEADER, options.hostKey);
+        }
+        if (body == null) {
+            return request.POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return request.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private void writeResult(double joinSeconds, double playSeconds, int draws) throws IOException {
+        ObjectNode result = json.createObjectNode();
+        result.put("finishedAt", Instant.now().toString());
+        ObjectNode environment = result.putObject("environment");
+        environment.put("processors", Runtime.getRuntime().availableProcessors());
+        environment.put("maxHeapMb", Runtime.getRuntime().maxMemory() >> 20);
+        environment.put("java", System.getProperty("java.version"));
+        environment.put("inProcessServer", options.baseUrl == null);
+        result.set("options", json.valueToTree(options.asMap()));
+        ObjectNode phases = result.putObject("phases");
+        ObjectNode join = phases.putObject("join")
+                .put("seconds", joinSeconds)
+                .put("players", joined.get())
+                .put("playersPerSecond", joined.get() / joinSeconds);
+        ObjectNode rejected = join.putObject("rejected");
+        rejectedJoins.forEach((reason, count) -> rejected.put(reason, count.sum()));
+        phases.putObject("play")
+                .put("seconds", playSeconds)
+                .put("draws", draws)
+                .put("acceptedClaims", acceptedClaims.sum());
+        latencies.writeTo(result.putObject("endpoints"));
+        Files.createDirectories(options.result.toAbsolutePath().getParent());
+        json.enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.result.toFile(), result);
+        System.out.println("\nResult written to " + options.result);
+    }
+
+    /**
+     * Command line options, each given as {@code --name=value}.
+     */
+    static final class Options {
+        int players = 1_000;
+        int threads = 64;
+        Duration pollInterval = Duration.ofSeconds(1);
+        Duration drawInterval = Duration.ofMillis(500);
+        int draws = 40;
+        long seed = 42;
+        String room = "load";
+        String hostKey = "LOAD-TEST-HOST-KEY";
+        URI baseUrl;
+        Path result = Path.of("target", "load-result.json");
+        final List<String> applicationArgs = new ArrayList<>();
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                for (String option : arg.trim().split("\\s+")) {
+                    if (!option.isEmpty()) {
+                        options.apply(option);
+                    }
+                }
+            }
+            if (options.players < 1 || options.threads < 1 || options.draws < 1) {
+                throw new IllegalArgumentException("players, threads and draws must be positive");
+            }
+            return options;
+        }
+
+        private void apply(String option) {
+            int equals = option.indexOf('=');
+            if (!option.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + option);
+            }
+            String name = option.substring(2, equals);
+            String value = option.substring(equals + 1);
+            switch (name) {
+                case "players" -> players = Integer.parseInt(value);
+                case "threads" -> threads = Integer.parseInt(value);
+                case "poll-interval" -> pollInterval = Duration.parse(value);
+                case "draw-interval" -> drawInterval = Duration.parse(value);
+                case "draws" -> draws = Integer.parseInt(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "room" -> room = value;
+                case "host-key" -> hostKey = value;
+                case "base-url" -> baseUrl = URI.create(value);
+                case "result" -> result = Path.of(value);
+                default -> {
+                    if (!name.startsWith("bingo.") && !name.startsWith("server.") && !name.startsWith("spring.")) {
+                        throw new IllegalArgumentException("Unknown option --" + name);
+                    }
+                    applicationArgs.add(option);
+                }
+            }
+        }
+
+        Map<String, Object> asMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("players", players);
+            map.put("threads", threads);
+            map.put("pollInterval", pollInterval.toString());
+            map.put("drawInterval", drawInterval.toString());
+            map.put("draws", draws);
+            map.put("seed", seed);
+            map.put("room", room);
+            map.put("applicationArgs", applicationArgs);
+            return map;
+        }
+    }
+}
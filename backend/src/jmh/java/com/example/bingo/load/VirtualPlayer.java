@@ -0,0 +1,110 @@
+package com.example.bingo.load;
+
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.Scorecard;
+import com.example.bingo.service.WinPatterns;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Client-side view of one simulated player: the card it picked, the cells marked so far and the
+ * claims it has already made. A player claims a pattern as soon as its own marks complete it,
+ * checking every pattern unless a full state response names the ones the room plays.
+ */
+final class VirtualPlayer {
+
+    final String displayName;
+    UUID id;
+    long version = -1;
+    long nextPollNanos;
+    boolean finished;
+
+    private final Set<ClaimType> claimed = EnumSet.noneOf(ClaimType.class);
+    private final Map<String, Integer> cellsByPhrase = new HashMap<>();
+    private int size;
+    private WinPatterns patterns;
+    private long freeLow;
+    private long freeHigh;
+    private long markedLow;
+    private long markedHigh;
+
+    VirtualPlayer(String displayName) {
+        this.displayName = displayName;
+    }
+
+    void holdCard(JsonNode scorecard) {
+        JsonNode rows = scorecard.get("rows");
+        size = rows.size();
+        patterns = WinPatterns.all(size);
+        cellsByPhrase.clear();
+        freeLow = 0;
+        freeHigh = 0;
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                String phrase = rows.get(row).get(column).asText();
+                int cell = row * size + column;
+                if (Scorecard.FREE_SPACE.equals(phrase)) {
+                    if (cell < Long.SIZE) {
+                        freeLow |= 1L << cell;
+                    } else {
+                        freeHigh |= 1L << cell;
+                    }
+                } else {
+                    cellsByPhrase.put(phrase, cell);
+                }
+            }
+        }
+        markedLow = freeLow;
+        markedHigh = freeHigh;
+        claimed.clear();
+    }
+
+    /**
+     * Applies a state or delta response.
+     *
+     * @return the claims this player now wants to make
+     */
+    Set<ClaimType> observe(JsonNode state) {
+        version = state.get("version").asLong();
+        JsonNode calls = state.has("calledPhrases") ? state.get("calledPhrases") : state.get("newCalls");
+        if (state.has("calledPhrases") || state.path("full").asBoolean()) {
+            markedLow = freeLow;
+            markedHigh = freeHigh;
+        }
+        if (state.has("patterns") && patterns != null) {
+            Set<ClaimType> played = EnumSet.noneOf(ClaimType.class);
+            state.get("patterns").forEach(type -> played.add(ClaimType.valueOf(type.asText())));
+            patterns = WinPatterns.of(size, played);
+        }
+        for (JsonNode call : calls) {
+            Integer cell = cellsByPhrase.get(call.asText());
+            if (cell == null) {
+                continue;
+            }
+            if (cell < Long.SIZE) {
+                markedLow |= 1L << cell;
+            } else {
+                markedHigh |= 1L << cell;
+            }
+        }
+        Set<ClaimType> wanted = EnumSet.noneOf(ClaimType.class);
+        if (!"IN_PROGRESS".equals(state.get("status").asText())) {
+            finished = "COMPLETE".equals(state.get("status").asText());
+            return wanted;
+        }
+        if (patterns == null) {
+            return wanted;
+        }
+        for (ClaimType type : patterns.getTypes()) {
+            if (!claimed.contains(type) && patterns.matches(type, markedLow, markedHigh)) {
+                wanted.add(type);
+            }
+        }
+        claimed.addAll(wanted);
+        return wanted;
+    }
+}
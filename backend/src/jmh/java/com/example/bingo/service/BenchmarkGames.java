@@ -0,0 +1,75 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.PlayerState;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Fixtures shared by the benchmarks: the production phrase list and games wired like a room.
+ */
+final class BenchmarkGames {
+
+    static final KeywordRepository KEYWORDS = new KeywordRepository(new ClassPathResource("keywords.txt"));
+
+    private BenchmarkGames() {
+    }
+
+    /**
+     * A random source with a fixed seed, so every run builds the same cards.
+     */
+    static SecureRandom seededRandom(long seed) {
+        try {
+            SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+            random.setSeed(seed);
+            return random;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static GameSettings settings(GameSettings.ConcurrencyMode concurrency, int poolSize) {
+        GameSettings settings = new GameSettings();
+        settings.setConcurrency(concurrency);
+        settings.getCardPool().setLowWatermark(poolSize / 3);
+        settings.getCardPool().setHighWatermark(poolSize);
+        // Benchmarks claim far faster than any player may.
+        settings.getClaims().setInterval(Duration.ZERO);
+        return settings;
+    }
+
+    /**
+     * Builds and boots a game; the returned executor runs its card refills and writer and must be
+     * shut down by the caller.
+     */
+    static GameService game(GameSettings settings, ExecutorService workers) {
+        return game(settings, workers, GameMetrics.NONE);
+    }
+
+    static GameService game(GameSettings settings, ExecutorService workers, GameMetrics metrics) {
+        GameCommandExecutor commands = settings.getConcurrency() == GameSettings.ConcurrencyMode.SINGLE_WRITER
+                ? GameCommandExecutor.serial(workers, metrics)
+                : GameCommandExecutor.locking(metrics);
+        GameService game = new GameService(
+                KEYWORDS, settings, commands, GameJournal.NONE, metrics, workers, state -> { }, finished -> { });
+        game.boot();
+        return game;
+    }
+
+    static ExecutorService workers() {
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "bench-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static PlayerState joinWithCard(GameService game, String name) {
+        PlayerState player = game.registerPlayer(name);
+        String cardId = game.previewScorecards(player.getId(), 1).get(0).getId();
+        return game.assignScorecard(player.getId(), cardId);
+    }
+}
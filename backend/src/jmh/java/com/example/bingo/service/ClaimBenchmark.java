@@ -0,0 +1,90 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimEvaluation;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PlayerState;
+import java.security.SecureRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pattern checks for every claim type on the default and the largest card: the bare mask test, the incremental check used by
+ * auto-adjudication, and a repeated {@link GameService#claimWin} on a half-called game, which after
+ * the first evaluation is answered from the claim cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ClaimBenchmark {
+
+    @Param({"ROW", "COLUMN", "DIAGONAL", "FULL_CARD", "FOUR_CORNERS", "X", "T", "FRAME"})
+    public ClaimType type;
+
+    @Param({"5", "9"})
+    public int cardSize;
+
+    private final long[] lowMasks = new long[1024];
+    private final long[] highMasks = new long[1024];
+    private WinPatterns patterns;
+    private ExecutorService workers;
+    private GameService game;
+    private PlayerState player;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SecureRandom random = BenchmarkGames.seededRandom(7);
+        int cells = cardSize * cardSize;
+        for (int index = 0; index < lowMasks.length; index++) {
+            lowMasks[index] = random.nextLong() & (cells >= Long.SIZE ? -1L : (1L << cells) - 1);
+            highMasks[index] = cells > Long.SIZE ? random.nextLong() & ((1L << (cells - Long.SIZE)) - 1) : 0;
+        }
+        patterns = WinPatterns.all(cardSize);
+        workers = BenchmarkGames.workers();
+        game = BenchmarkGames.game(BenchmarkGames.settings(GameSettings.ConcurrencyMode.LOCKED, 120), workers);
+        game.resetGame(true, null, cardSize, null);
+        player = BenchmarkGames.joinWithCard(game, "Ada");
+        game.startGame();
+        for (int draw = 0; draw < 50; draw++) {
+            game.drawNextNumber();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        int index = next++ & (lowMasks.length - 1);
+        return patterns.matches(type, lowMasks[index], highMasks[index]);
+    }
+
+    @Benchmark
+    public boolean completes() {
+        int index = next++;
+        int mask = index & (lowMasks.length - 1);
+        return patterns.completes(type, index % (cardSize * cardSize), lowMasks[mask], highMasks[mask]);
+    }
+
+    @Benchmark
+    public ClaimEvaluation claimWin() {
+        return game.claimWin(player.getId(), type);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimEvaluation;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PlayerState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Game commands issued by four threads at once against one room, under both concurrency modes.
+ * The game is reset before every iteration so the player map does not grow without bound. With
+ * {@code metered} the commands report to a Micrometer registry, which shows what instrumentation costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(4)
+public class ContendedCommandsBenchmark {
+
+    @Param({"LOCKED", "SINGLE_WRITER"})
+    public GameSettings.ConcurrencyMode concurrency;
+
+    @Param({"false", "true"})
+    public boolean metered;
+
+    private ExecutorService workers;
+    private GameService game;
+
+    @State(Scope.Thread)
+    public static class Claimant {
+        PlayerState player;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void join(ContendedCommandsBenchmark benchmark) {
+            player = BenchmarkGames.joinWithCard(benchmark.game, "Claimant");
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workers = BenchmarkGames.workers();
+        GameMetrics metrics = metered ? new MicrometerGameMetrics(new SimpleMeterRegistry()) : GameMetrics.NONE;
+        game = BenchmarkGames.game(BenchmarkGames.settings(concurrency, 120), workers, metrics);
+    }
+
+    @Setup(Level.Iteration)
+    public void startFreshGame() {
+        game.resetGame(true);
+        game.startGame();
+        for (int draw = 0; draw < 50; draw++) {
+            game.drawNextNumber();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Benchmark
+    public PlayerState registerPlayer() {
+        return game.registerPlayer("Player");
+    }
+
+    @Benchmark
+    public ClaimEvaluation claimWin(Claimant claimant) {
+        ClaimType[] types = ClaimType.values();
+        return game.claimWin(claimant.player.getId(), types[claimant.next++ % types.length]);
+    }
+}
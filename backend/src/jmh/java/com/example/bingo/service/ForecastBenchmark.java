@@ -0,0 +1,57 @@
+package com.example.bingo.service;
+
+import com.example.bingo.dto.PacingForecastResponse;
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.Scorecard;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One pacing forecast over {@code cards} assigned cards with ten phrases called, on every core of
+ * the common fork-join pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ForecastBenchmark {
+
+    @Param({"10000"})
+    public int cards;
+
+    @Param({"1000", "4000"})
+    public int trials;
+
+    private PacingForecaster forecaster;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        PhraseDictionary dictionary = BenchmarkGames.KEYWORDS.getDictionary();
+        List<Scorecard> assigned = ScorecardGenerator.createMany(cards, dictionary);
+        int[] queue = IntStream.range(10, dictionary.size()).toArray();
+        forecaster = new PacingForecaster(1, assigned, new int[cards], queue, dictionary.size(),
+                WinPatterns.all(ScorecardGenerator.DEFAULT_CARD_SIZE), 3);
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public PacingForecastResponse forecast() {
+        return forecaster.forecast(trials, random);
+    }
+}
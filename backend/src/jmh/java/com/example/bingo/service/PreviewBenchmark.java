@@ -0,0 +1,68 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.Scorecard;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Leasing a six-card preview at several pool sizes, from four players at once. Each player's new
+ * preview returns its previous lease, so the pool stays at a steady size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(4)
+public class PreviewBenchmark {
+
+    @Param({"30", "120", "1000"})
+    public int poolSize;
+
+    private ExecutorService workers;
+    private GameService game;
+
+    @State(Scope.Thread)
+    public static class Player {
+        UUID id;
+
+        @Setup
+        public void register(PreviewBenchmark benchmark) {
+            id = benchmark.game.registerPlayer("Previewer").getId();
+        }
+    }
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        workers = BenchmarkGames.workers();
+        game = BenchmarkGames.game(BenchmarkGames.settings(GameSettings.ConcurrencyMode.LOCKED, poolSize), workers);
+        game.previewScorecards(null, 1);
+        Thread.sleep(500);
+    }
+
+    @TearDown
+    public void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Benchmark
+    public List<Scorecard> preview(Player player) {
+        return game.previewScorecards(player.id, 6);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.Scorecard;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Card generation and fingerprinting. Fingerprints are computed once in the {@link Scorecard}
+ * constructor, so {@link #buildCard()} measures the fingerprint cost of a card.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ScorecardBenchmark {
+
+    private PhraseDictionary dictionary;
+    private SecureRandom random;
+    private int[] cells;
+    private FingerprintSet fingerprints;
+    private Scorecard[] probes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        dictionary = BenchmarkGames.KEYWORDS.getDictionary();
+        random = BenchmarkGames.seededRandom(42);
+        Scorecard template = ScorecardGenerator.create(random, dictionary);
+        cells = new int[template.getCellCount()];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = template.phraseIdAt(cell);
+        }
+        fingerprints = new FingerprintSet();
+        probes = new Scorecard[1024];
+        for (int index = 0; index < probes.length; index++) {
+            probes[index] = ScorecardGenerator.create(random, dictionary);
+            if (index % 2 == 0) {
+                fingerprints.add(probes[index]);
+            }
+        }
+    }
+
+    @Benchmark
+    public Scorecard generate() {
+        return ScorecardGenerator.create(dictionary);
+    }
+
+    @Benchmark
+    public Scorecard generateWithSecureRandom() {
+        return ScorecardGenerator.create(random, dictionary);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Scorecard> generateBulk() {
+        return ScorecardGenerator.createMany(10_000, dictionary);
+    }
+
+    @Benchmark
+    public Scorecard buildCard() {
+        return new Scorecard("bench", ScorecardGenerator.DEFAULT_CARD_SIZE, cells, dictionary);
+    }
+
+    @Benchmark
+    public boolean fingerprintLookup() {
+        return fingerprints.contains(probes[next++ & (probes.length - 1)]);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.bingo.service;
+
+import com.example.bingo.dto.GameStateDeltaResponse;
+import com.example.bingo.dto.GameStateResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading the published state of a mid-game room with 500 auto-adjudicated players: the lock-free
+ * read, a delta, the cached JSON and the JSON of a snapshot that has not been serialized yet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SnapshotBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private ExecutorService workers;
+    private GameService game;
+    private GameStateResponse state;
+    private long recentVersion;
+
+    @Setup
+    public void setUp() {
+        workers = BenchmarkGames.workers();
+        GameSettings settings = BenchmarkGames.settings(GameSettings.ConcurrencyMode.LOCKED, 600);
+        settings.setAutoAdjudicate(true);
+        game = BenchmarkGames.game(settings, workers);
+        for (int index = 0; index < 500; index++) {
+            BenchmarkGames.joinWithCard(game, "Player " + index);
+        }
+        game.startGame();
+        for (int draw = 0; draw < 45; draw++) {
+            game.drawNextNumber();
+        }
+        recentVersion = game.getCurrentState().getVersion();
+        for (int draw = 0; draw < 5; draw++) {
+            game.drawNextNumber();
+        }
+        state = game.getCurrentState();
+    }
+
+    @TearDown
+    public void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Benchmark
+    public GameStateResponse currentState() {
+        return game.getCurrentState();
+    }
+
+    @Benchmark
+    public GameStateDeltaResponse delta() {
+        return game.getStateSince(recentVersion);
+    }
+
+    @Benchmark
+    public byte[] cachedJson() {
+        return game.currentSnapshot().toJson(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] freshJson() {
+        return new GameStateSnapshot(state, 0, new long[0], new long[0], game.currentSnapshot().getDictionary(), new int[0], 0)
+                .toJson(objectMapper);
+    }
+}
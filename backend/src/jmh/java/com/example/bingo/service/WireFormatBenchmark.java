@@ -0,0 +1,100 @@
+package com.example.bingo.service;
+
+import com.example.bingo.dto.CompactScorecardListResponse;
+import com.example.bingo.dto.ScorecardListResponse;
+import com.example.bingo.model.Scorecard;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializing a six-card preview and a mid-game state as plain JSON, compact JSON and compact
+ * CBOR. Payload sizes are printed once per run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private final ObjectMapper json = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper cbor = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+    private ExecutorService workers;
+    private List<Scorecard> preview;
+    private GameStateSnapshot snapshot;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        SplittableRandom random = new SplittableRandom(7);
+        preview = IntStream.range(0, 6)
+                .mapToObj(index -> ScorecardGenerator.create(random, BenchmarkGames.KEYWORDS.getDictionary()))
+                .toList();
+        workers = BenchmarkGames.workers();
+        GameService game = BenchmarkGames.game(BenchmarkGames.settings(GameSettings.ConcurrencyMode.LOCKED, 30), workers);
+        game.startGame();
+        for (int draw = 0; draw < 50; draw++) {
+            game.drawNextNumber();
+        }
+        snapshot = game.currentSnapshot();
+        System.out.printf("%npreview bytes: json %d, compact %d, cbor %d; state bytes: json %d, compact %d, cbor %d%n",
+                previewJson().length, previewCompactJson().length, previewCompactCbor().length,
+                stateJson().length, stateCompactJson().length, stateCompactCbor().length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Benchmark
+    public byte[] previewJson() throws JsonProcessingException {
+        return json.writeValueAsBytes(new ScorecardListResponse(preview));
+    }
+
+    @Benchmark
+    public byte[] previewCompactJson() throws JsonProcessingException {
+        return json.writeValueAsBytes(new CompactScorecardListResponse(preview));
+    }
+
+    @Benchmark
+    public byte[] previewCompactCbor() throws JsonProcessingException {
+        return cbor.writeValueAsBytes(new CompactScorecardListResponse(preview));
+    }
+
+    @Benchmark
+    public byte[] stateJson() throws JsonProcessingException {
+        return json.writeValueAsBytes(snapshot.getState());
+    }
+
+    @Benchmark
+    public byte[] stateCompactJson() throws JsonProcessingException {
+        return json.writeValueAsBytes(snapshot.toCompact());
+    }
+
+    @Benchmark
+    public byte[] stateCompactCbor() throws JsonProcessingException {
+        return cbor.writeValueAsBytes(snapshot.toCompact());
+    }
+}
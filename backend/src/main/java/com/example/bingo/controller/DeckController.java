@@ -0,0 +1,42 @@
+package com.example.bingo.controller;
+
+import com.example.bingo.dto.DeckResponse;
+import com.example.bingo.service.Deck;
+import com.example.bingo.service.KeywordRepository;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Lists the phrase decks a host can reset a game onto.
+ */
+@RestController
+@RequestMapping(path = "/api/decks", produces = MediaType.APPLICATION_JSON_VALUE)
+@CrossOrigin(origins = "http://localhost:3000")
+public class DeckController {
+
+    private final KeywordRepository keywordRepository;
+
+    public DeckController(KeywordRepository keywordRepository) {
+        this.keywordRepository = keywordRepository;
+    }
+
+    @GetMapping
+    public List<DeckResponse> getDecks() {
+        return keywordRepository.decks().stream().map(DeckController::toResponse).toList();
+    }
+
+    @GetMapping("/{name}/phrases")
+    public List<String> getPhrases(@PathVariable String name) {
+        return keywordRepository.deck(name).getDictionary().phrases();
+    }
+
+    private static DeckResponse toResponse(Deck deck) {
+        return new DeckResponse(
+                deck.getName(), deck.getDictionary().size(), deck.getSource() == null, deck.getLoadedAt());
+    }
+}
@@ -1,23 +1,45 @@
 package com.example.bingo.controller;
 
+import com.example.bingo.dto.BulkRegisterRequest;
+import com.example.bingo.dto.BulkRegisterSummaryResponse;
+import com.example.bingo.dto.CallerStatusResponse;
 import com.example.bingo.dto.ClaimRequest;
 import com.example.bingo.dto.ClaimResultResponse;
+import com.example.bingo.dto.CompactGameStateResponse;
+import com.example.bingo.dto.CompactPlayerResponse;
+import com.example.bingo.dto.CompactScorecardListResponse;
 import com.example.bingo.dto.CreatePlayerRequest;
+import com.example.bingo.dto.DictionaryResponse;
 import com.example.bingo.dto.DrawNumberResponse;
+import com.example.bingo.dto.GameStateDeltaResponse;
 import com.example.bingo.dto.GameStateResponse;
+import com.example.bingo.dto.PacingForecastResponse;
 import com.example.bingo.dto.PlayerResponse;
 import com.example.bingo.dto.ScorecardListResponse;
 import com.example.bingo.dto.SelectCardRequest;
 import com.example.bingo.model.ClaimEvaluation;
+import com.example.bingo.model.ClaimType;
 import com.example.bingo.model.PlayerState;
 import com.example.bingo.model.Scorecard;
+import com.example.bingo.service.GameRoomRegistry;
 import com.example.bingo.service.GameService;
+import com.example.bingo.service.GameStateSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.Objects;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,73 +49,291 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+/**
+ * Player, scorecard and state responses are plain JSON unless the client accepts only
+ * {@value #COMPACT_JSON_VALUE} or {@code application/cbor}. Those compact forms send phrases as ids
+ * into the game's dictionary, which clients fetch once from {@code game/dictionary} and keep for as
+ * long as the {@code dictionaryVersion} of the responses does not change.
+ */
 @RestController
 @RequestMapping(path = "/api", produces = MediaType.APPLICATION_JSON_VALUE)
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = HttpHeaders.ETAG)
 public class GameController {
 
-    private final GameService gameService;
+    public static final String COMPACT_JSON_VALUE = "application/vnd.bingo.compact+json";
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+
+    private static final int MAX_PREVIEW_COUNT = 12;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final GameRoomRegistry rooms;
+    private final ObjectMapper objectMapper;
     private final String hostKey;
 
-    public GameController(GameService gameService, @Value("${bingo.host-key}") String hostKey) {
-        this.gameService = gameService;
+    public GameController(
+            GameRoomRegistry rooms,
+            ObjectMapper objectMapper,
+            @Value("${bingo.host-key}") String hostKey) {
+        this.rooms = rooms;
+        this.objectMapper = objectMapper;
         this.hostKey = hostKey;
     }
 
-    @PostMapping(path = "/players", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public PlayerResponse createPlayer(@Valid @RequestBody CreatePlayerRequest request) {
-        PlayerState player = gameService.registerPlayer(request.getDisplayName());
-        return toResponse(player);
+    @PostMapping(
+            path = {"/players", "/rooms/{roomId}/players"},
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, COMPACT_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Object createPlayer(
+            @PathVariable(required = false) String roomId,
+            @Valid @RequestBody CreatePlayerRequest request,
+            HttpServletRequest httpRequest) {
+        PlayerState player = rooms.room(roomId).registerPlayer(request.getDisplayName());
+        return toResponse(player, httpRequest);
+    }
+
+    /**
+     * Host-only: registers every named player with a unique scorecard and streams one
+     * {@link PlayerResponse} per line as newline-delimited JSON. Players are registered in chunks
+     * of {@value #BULK_CHUNK_SIZE}, each a single game command, so other requests keep flowing
+     * during a large onboarding.
+     * <p>
+     * A room without space for every player is refused with 409 before anything is streamed. Since
+     * the 200 status is committed with the first line, the stream always ends with a
+     * {@link BulkRegisterSummaryResponse} line telling how many players were registered and, if a
+     * later chunk failed, why.
+     */
+    @PostMapping(path = {"/players/bulk", "/rooms/{roomId}/players/bulk"}, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createPlayers(
+            @PathVariable(required = false) String roomId,
+            @RequestHeader("X-Host-Key") String providedHostKey,
+            @Valid @RequestBody BulkRegisterRequest request) {
+        assertHostAccess(providedHostKey);
+        GameService game = rooms.room(roomId);
+        List<String> names = request.getDisplayNames();
+        game.checkRoomFor(names.size());
+        ObjectWriter writer = objectMapper.writerFor(PlayerResponse.class);
+        StreamingResponseBody body = (OutputStream out) -> {
+            int registered = 0;
+            String error = null;
+            try {
+                for (int from = 0; from < names.size(); from += BULK_CHUNK_SIZE) {
+                    List<String> chunk = names.subList(from, Math.min(names.size(), from + BULK_CHUNK_SIZE));
+                    for (PlayerState player : game.registerPlayersWithCards(chunk)) {
+                        out.write(writer.writeValueAsBytes(toResponse(player)));
+                        out.write('\n');
+                        registered++;
+                    }
+                    out.flush();
+                }
+            } catch (RuntimeException e) {
+                error = Objects.requireNonNullElse(e.getMessage(), "Registration failed");
+            }
+            out.write(objectMapper.writeValueAsBytes(
+                    new BulkRegisterSummaryResponse(names.size(), registered, error)));
+            out.write('\n');
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
     }
 
-    @GetMapping("/players/{playerId}")
-    public PlayerResponse getPlayer(@PathVariable UUID playerId) {
-        return toResponse(gameService.getPlayer(playerId));
+    @GetMapping(
+            path = {"/players/{playerId}", "/rooms/{roomId}/players/{playerId}"},
+            produces = {MediaType.APPLICATION_JSON_VALUE, COMPACT_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Object getPlayer(
+            @PathVariable(required = false) String roomId,
+            @PathVariable UUID playerId,
+            HttpServletRequest httpRequest) {
+        return toResponse(rooms.room(roomId).getPlayer(playerId), httpRequest);
     }
 
-    @GetMapping("/scorecards")
-    public ScorecardListResponse getScorecards(@RequestParam(defaultValue = "6") int count) {
-        List<Scorecard> cards = gameService.previewScorecards(Math.max(1, count));
-        return new ScorecardListResponse(cards);
+    @GetMapping(
+            path = {"/scorecards", "/rooms/{roomId}/scorecards"},
+            produces = {MediaType.APPLICATION_JSON_VALUE, COMPACT_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Object getScorecards(
+            @PathVariable(required = false) String roomId,
+            @RequestParam(defaultValue = "6") int count,
+            @RequestParam(required = false) UUID playerId,
+            HttpServletRequest httpRequest) {
+        int leased = Math.min(Math.max(1, count), MAX_PREVIEW_COUNT);
+        List<Scorecard> cards = rooms.room(roomId).previewScorecards(playerId, leased);
+        return wireFormat(httpRequest) == MediaType.APPLICATION_JSON
+                ? new ScorecardListResponse(cards)
+                : new CompactScorecardListResponse(cards);
     }
 
-    @PostMapping(path = "/players/{playerId}/scorecard", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public PlayerResponse selectScorecard(
+    @PostMapping(
+            path = {"/players/{playerId}/scorecard", "/rooms/{roomId}/players/{playerId}/scorecard"},
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, COMPACT_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Object selectScorecard(
+            @PathVariable(required = false) String roomId,
             @PathVariable UUID playerId,
-            @Valid @RequestBody SelectCardRequest request) {
-        PlayerState player = gameService.assignScorecard(playerId, request.getScorecardId());
-        return toResponse(player);
+            @Valid @RequestBody SelectCardRequest request,
+            HttpServletRequest httpRequest) {
+        PlayerState player = rooms.room(roomId).assignScorecard(playerId, request.getScorecardId());
+        return toResponse(player, httpRequest);
     }
 
-    @GetMapping("/game/state")
-    public GameStateResponse getGameState() {
-        return gameService.getCurrentState();
+    /**
+     * Returns the full state, or with {@code since} only what changed after that version. Responses
+     * carry the state version as their ETag, so an unchanged game answers {@code 304 Not Modified}.
+     */
+    @GetMapping(
+            path = {"/game/state", "/rooms/{roomId}/game/state"},
+            produces = {MediaType.APPLICATION_JSON_VALUE, COMPACT_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<Object> getGameState(
+            @PathVariable(required = false) String roomId,
+            @RequestParam(required = false) Long since,
+            WebRequest webRequest,
+            HttpServletRequest httpRequest) {
+        GameService game = rooms.room(roomId);
+        MediaType format = wireFormat(httpRequest);
+        if (format != MediaType.APPLICATION_JSON) {
+            GameStateSnapshot snapshot = game.currentSnapshot();
+            CompactGameStateResponse compact = since == null ? snapshot.toCompact() : snapshot.toCompactSince(since);
+            return conditional(compact.getVersion(), format, compact, webRequest);
+        }
+        if (since == null) {
+            GameStateSnapshot snapshot = game.currentSnapshot();
+            return conditional(snapshot.getVersion(), format, snapshot.toJson(objectMapper), webRequest);
+        }
+        GameStateDeltaResponse delta = game.getStateSince(since);
+        return conditional(delta.getVersion(), format, delta, webRequest);
+    }
+
+    /**
+     * The phrases of the room's current game, indexed by the phrase ids of the compact responses.
+     * The dictionary version is the ETag, so clients revalidate it with a {@code 304} round trip.
+     */
+    @GetMapping(
+            path = {"/game/dictionary", "/rooms/{roomId}/game/dictionary"},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<DictionaryResponse> getDictionary(
+            @PathVariable(required = false) String roomId,
+            WebRequest webRequest) {
+        GameStateSnapshot snapshot = rooms.room(roomId).currentSnapshot();
+        String etag = "\"" + snapshot.getDictionary().version() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(new DictionaryResponse(
+                        snapshot.getState().getDeck(),
+                        snapshot.getDictionary().version(),
+                        snapshot.getDictionary().phrases()));
     }
 
-    @PostMapping("/game/start")
-    public GameStateResponse startGame(@RequestHeader("X-Host-Key") String providedHostKey) {
+    /**
+     * Streams the room's state as Server-Sent Events: the current state on connect, then one
+     * {@code state} event each time a start, reset, draw or accepted claim changes the game.
+     */
+    @GetMapping(path = {"/game/stream", "/rooms/{roomId}/game/stream"}, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGameState(@PathVariable(required = false) String roomId) {
+        return rooms.subscribe(roomId);
+    }
+
+    @PostMapping({"/game/start", "/rooms/{roomId}/game/start"})
+    public GameStateResponse startGame(
+            @PathVariable(required = false) String roomId,
+            @RequestHeader("X-Host-Key") String providedHostKey) {
         assertHostAccess(providedHostKey);
-        return gameService.startGame();
+        return rooms.room(roomId).startGame();
     }
 
-    @PostMapping("/game/draw")
-    public DrawNumberResponse drawNumber(@RequestHeader("X-Host-Key") String providedHostKey) {
+    @PostMapping({"/game/draw", "/rooms/{roomId}/game/draw"})
+    public DrawNumberResponse drawNumber(
+            @PathVariable(required = false) String roomId,
+            @RequestHeader("X-Host-Key") String providedHostKey) {
         assertHostAccess(providedHostKey);
-        return new DrawNumberResponse(gameService.drawNextNumber());
+        return rooms.room(roomId).drawNextNumber();
     }
 
-    @PostMapping("/game/reset")
+    /**
+     * Host-only: {@code deck}, {@code cardSize} (3 to 9) and {@code patterns} (e.g.
+     * {@code ROW,FOUR_CORNERS,FRAME}) choose the next game; each one left out keeps the current game's.
+     */
+    @PostMapping({"/game/reset", "/rooms/{roomId}/game/reset"})
     public GameStateResponse resetGame(
+            @PathVariable(required = false) String roomId,
             @RequestParam(defaultValue = "false") boolean dropPlayers,
+            @RequestParam(required = false) String deck,
+            @RequestParam(required = false) Integer cardSize,
+            @RequestParam(required = false) Set<ClaimType> patterns,
             @RequestHeader("X-Host-Key") String providedHostKey) {
         assertHostAccess(providedHostKey);
-        return gameService.resetGame(dropPlayers);
+        rooms.caller(roomId).stop();
+        return rooms.room(roomId).resetGame(dropPlayers, deck, cardSize, patterns);
     }
 
-    @PostMapping(path = "/game/claim", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ClaimResultResponse claim(@Valid @RequestBody ClaimRequest request) {
-        ClaimEvaluation evaluation = gameService.claimWin(request.getPlayerId(), request.getClaimType());
+    /**
+     * Host-only: Monte Carlo forecast of the draws still needed before the next winner of each
+     * pattern and before the game ends, over the cards assigned now.
+     */
+    @GetMapping({"/game/forecast", "/rooms/{roomId}/game/forecast"})
+    public PacingForecastResponse forecast(
+            @PathVariable(required = false) String roomId,
+            @RequestParam(required = false) Integer trials,
+            @RequestHeader("X-Host-Key") String providedHostKey) {
+        assertHostAccess(providedHostKey);
+        return rooms.room(roomId).forecast(trials);
+    }
+
+    @GetMapping({"/game/caller", "/rooms/{roomId}/game/caller"})
+    public CallerStatusResponse getCaller(@PathVariable(required = false) String roomId) {
+        return rooms.caller(roomId).status();
+    }
+
+    /**
+     * Host-only: lets the server draw a phrase every {@code interval} (ISO-8601, e.g. {@code PT5S})
+     * until the game completes, instead of waiting for host draw requests.
+     */
+    @PostMapping({"/game/caller/start", "/rooms/{roomId}/game/caller/start"})
+    public CallerStatusResponse startCaller(
+            @PathVariable(required = false) String roomId,
+            @RequestParam(required = false) Duration interval,
+            @RequestHeader("X-Host-Key") String providedHostKey) {
+        assertHostAccess(providedHostKey);
+        return rooms.caller(roomId).start(interval);
+    }
+
+    @PostMapping({"/game/caller/pause", "/rooms/{roomId}/game/caller/pause"})
+    public CallerStatusResponse pauseCaller(
+            @PathVariable(required = false) String roomId,
+            @RequestHeader("X-Host-Key") String providedHostKey) {
+        assertHostAccess(providedHostKey);
+        return rooms.caller(roomId).pause();
+    }
+
+    @PostMapping({"/game/caller/resume", "/rooms/{roomId}/game/caller/resume"})
+    public CallerStatusResponse resumeCaller(
+            @PathVariable(required = false) String roomId,
+            @RequestHeader("X-Host-Key") String providedHostKey) {
+        assertHostAccess(providedHostKey);
+        return rooms.caller(roomId).resume();
+    }
+
+    @PostMapping({"/game/caller/interval", "/rooms/{roomId}/game/caller/interval"})
+    public CallerStatusResponse changeCallerInterval(
+            @PathVariable(required = false) String roomId,
+            @RequestParam Duration interval,
+            @RequestHeader("X-Host-Key") String providedHostKey) {
+        assertHostAccess(providedHostKey);
+        return rooms.caller(roomId).changeInterval(interval);
+    }
+
+    @PostMapping(path = {"/game/claim", "/rooms/{roomId}/game/claim"}, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ClaimResultResponse claim(
+            @PathVariable(required = false) String roomId,
+            @Valid @RequestBody ClaimRequest request) {
+        ClaimEvaluation evaluation = rooms.room(roomId).claimWin(request.getPlayerId(), request.getClaimType());
         return new ClaimResultResponse(evaluation.isAccepted(), evaluation.getMessage(), evaluation.getWinners());
     }
 
@@ -103,7 +343,44 @@ public class GameController {
         }
     }
 
+    /**
+     * Each wire format gets its own ETag, since the same version has a different body in each.
+     */
+    private static ResponseEntity<Object> conditional(
+            long version, MediaType format, Object body, WebRequest webRequest) {
+        String etag = format == MediaType.APPLICATION_JSON
+                ? "\"" + version + "\""
+                : "\"" + version + (format == COMPACT_JSON ? "-compact" : "-cbor") + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(format)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    /**
+     * Plain JSON unless the Accept header matched only compact types of the handler's
+     * {@code produces}; compact JSON wins over CBOR when the client accepts both.
+     */
+    private static MediaType wireFormat(HttpServletRequest request) {
+        Object producible = request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+        if (!(producible instanceof Set<?> types) || types.contains(MediaType.APPLICATION_JSON)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return types.contains(COMPACT_JSON) ? COMPACT_JSON : MediaType.APPLICATION_CBOR;
+    }
+
     private PlayerResponse toResponse(PlayerState player) {
         return new PlayerResponse(player.getId(), player.getDisplayName(), player.getScorecard());
     }
+
+    private Object toResponse(PlayerState player, HttpServletRequest request) {
+        return wireFormat(request) == MediaType.APPLICATION_JSON
+                ? toResponse(player)
+                : new CompactPlayerResponse(player.getId(), player.getDisplayName(), player.getScorecard());
+    }
 }
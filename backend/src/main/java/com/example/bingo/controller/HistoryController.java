@@ -0,0 +1,57 @@
+package com.example.bingo.controller;
+
+import com.example.bingo.dto.ArchivedGameResponse;
+import com.example.bingo.dto.LeaderboardEntryResponse;
+import com.example.bingo.dto.PlayerHistoryResponse;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.service.GameHistoryService;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Read-only views over archived games, served from the aggregates kept by {@link GameHistoryService}.
+ */
+@RestController
+@RequestMapping(path = "/api/history", produces = MediaType.APPLICATION_JSON_VALUE)
+@CrossOrigin(origins = "http://localhost:3000")
+public class HistoryController {
+
+    private final GameHistoryService history;
+
+    public HistoryController(GameHistoryService history) {
+        this.history = history;
+    }
+
+    /**
+     * Top winners for one claim type, or by total wins when {@code type} is omitted.
+     */
+    @GetMapping("/leaderboard")
+    public List<LeaderboardEntryResponse> getLeaderboard(
+            @RequestParam(required = false) ClaimType type,
+            @RequestParam(defaultValue = "10") int limit) {
+        return history.leaderboard(type, limit);
+    }
+
+    @GetMapping("/players/{displayName}")
+    public PlayerHistoryResponse getPlayerHistory(
+            @PathVariable String displayName,
+            @RequestParam(defaultValue = "20") int limit) {
+        return history.playerHistory(displayName, limit);
+    }
+
+    @GetMapping("/games")
+    public List<ArchivedGameResponse> getRecentGames(@RequestParam(defaultValue = "20") int limit) {
+        return history.recentGames(limit);
+    }
+
+    @GetMapping("/games/{gameId}")
+    public ArchivedGameResponse getGame(@PathVariable long gameId) {
+        return history.game(gameId);
+    }
+}
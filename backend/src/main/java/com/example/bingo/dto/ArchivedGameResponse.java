@@ -0,0 +1,77 @@
+package com.example.bingo.dto;
+
+import com.example.bingo.model.Winner;
+import java.time.Instant;
+import java.util.List;
+
+public class ArchivedGameResponse {
+    private final long gameId;
+    private final String roomId;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final boolean completed;
+    private final int playerCount;
+    private final int callCount;
+    private final List<String> calledPhrases;
+    private final List<Winner> winners;
+
+    public ArchivedGameResponse(
+            long gameId,
+            String roomId,
+            Instant startedAt,
+            Instant finishedAt,
+            boolean completed,
+            int playerCount,
+            int callCount,
+            List<String> calledPhrases,
+            List<Winner> winners) {
+        this.gameId = gameId;
+        this.roomId = roomId;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.completed = completed;
+        this.playerCount = playerCount;
+        this.callCount = callCount;
+        this.calledPhrases = calledPhrases;
+        this.winners = winners;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getCallCount() {
+        return callCount;
+    }
+
+    /**
+     * @return the calls in order; empty in game listings
+     */
+    public List<String> getCalledPhrases() {
+        return calledPhrases;
+    }
+
+    public List<Winner> getWinners() {
+        return winners;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.bingo.dto;
+
+import com.example.bingo.model.ClaimType;
+import java.time.Instant;
+
+public class ArchivedWinResponse {
+    private final long gameId;
+    private final String roomId;
+    private final ClaimType claimType;
+    private final int drawCount;
+    private final Instant wonAt;
+
+    public ArchivedWinResponse(long gameId, String roomId, ClaimType claimType, int drawCount, Instant wonAt) {
+        this.gameId = gameId;
+        this.roomId = roomId;
+        this.claimType = claimType;
+        this.drawCount = drawCount;
+        this.wonAt = wonAt;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public ClaimType getClaimType() {
+        return claimType;
+    }
+
+    public int getDrawCount() {
+        return drawCount;
+    }
+
+    public Instant getWonAt() {
+        return wonAt;
+    }
+}
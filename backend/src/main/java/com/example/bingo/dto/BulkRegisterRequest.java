@@ -0,0 +1,22 @@
+package com.example.bingo.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class BulkRegisterRequest {
+
+    public static final int MAX_PLAYERS = 10_000;
+
+    @NotEmpty(message = "At least one display name is required")
+    @Size(max = MAX_PLAYERS, message = "At most 10000 players can be registered at once")
+    private List<@Size(max = 40, message = "Display name must be 40 characters or less") String> displayNames;
+
+    public List<String> getDisplayNames() {
+        return displayNames;
+    }
+
+    public void setDisplayNames(List<String> displayNames) {
+        this.displayNames = displayNames;
+    }
+}
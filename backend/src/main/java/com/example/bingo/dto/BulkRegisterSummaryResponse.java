@@ -0,0 +1,34 @@
+package com.example.bingo.dto;
+
+/**
+ * Last line of a bulk registration stream. A stream that ends without it was cut off.
+ */
+public class BulkRegisterSummaryResponse {
+    private final int requested;
+    private final int registered;
+    private final boolean complete;
+    private final String error;
+
+    public BulkRegisterSummaryResponse(int requested, int registered, String error) {
+        this.requested = requested;
+        this.registered = registered;
+        this.complete = error == null;
+        this.error = error;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getRegistered() {
+        return registered;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
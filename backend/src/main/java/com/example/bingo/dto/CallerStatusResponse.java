@@ -0,0 +1,34 @@
+package com.example.bingo.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class CallerStatusResponse {
+    private final String state;
+    private final Duration interval;
+    private final Instant nextDrawAt;
+
+    public CallerStatusResponse(String state, Duration interval, Instant nextDrawAt) {
+        this.state = state;
+        this.interval = interval;
+        this.nextDrawAt = nextDrawAt;
+    }
+
+    /**
+     * @return {@code STOPPED}, {@code RUNNING} or {@code PAUSED}
+     */
+    public String getState() {
+        return state;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return when the next phrase will be drawn, or {@code null} unless running
+     */
+    public Instant getNextDrawAt() {
+        return nextDrawAt;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.bingo.dto;
+
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.GameStatus;
+import com.example.bingo.model.Winner;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link GameStateResponse} with calls as phrase ids into the dictionary named by
+ * {@code dictionaryVersion}. With {@code full} unset the calls and winners are only those added
+ * after the version the client asked for.
+ */
+public class CompactGameStateResponse {
+    private final long version;
+    private final boolean full;
+    private final GameStatus status;
+    private final String deck;
+    private final int cardSize;
+    private final Set<ClaimType> patterns;
+    private final String dictionaryVersion;
+    private final Integer currentCall;
+    private final int[] calls;
+    private final int remainingCalls;
+    private final int playerCount;
+    private final List<Winner> winners;
+
+    public CompactGameStateResponse(
+            long version,
+            boolean full,
+            GameStatus status,
+            String deck,
+            int cardSize,
+            Set<ClaimType> patterns,
+            String dictionaryVersion,
+            Integer currentCall,
+            int[] calls,
+            int remainingCalls,
+            int playerCount,
+            List<Winner> winners) {
+        this.version = version;
+        this.full = full;
+        this.status = status;
+        this.deck = deck;
+        this.cardSize = cardSize;
+        this.patterns = patterns;
+        this.dictionaryVersion = dictionaryVersion;
+        this.currentCall = currentCall;
+        this.calls = calls;
+        this.remainingCalls = remainingCalls;
+        this.playerCount = playerCount;
+        this.winners = winners;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public String getDeck() {
+        return deck;
+    }
+
+    public int getCardSize() {
+        return cardSize;
+    }
+
+    /**
+     * @return the win patterns that can be claimed in this game
+     */
+    public Set<ClaimType> getPatterns() {
+        return patterns;
+    }
+
+    public String getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    /**
+     * @return the id of the latest call, or {@code null} before the first call
+     */
+    public Integer getCurrentCall() {
+        return currentCall;
+    }
+
+    public int[] getCalls() {
+        return calls;
+    }
+
+    public int getRemainingCalls() {
+        return remainingCalls;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public List<Winner> getWinners() {
+        return winners;
+    }
+}
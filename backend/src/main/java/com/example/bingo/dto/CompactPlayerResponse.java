@@ -0,0 +1,37 @@
+package com.example.bingo.dto;
+
+import com.example.bingo.model.Scorecard;
+import java.util.UUID;
+
+public class CompactPlayerResponse {
+    private final UUID playerId;
+    private final String displayName;
+    private final String dictionaryVersion;
+    private final CompactScorecard scorecard;
+
+    public CompactPlayerResponse(UUID playerId, String displayName, Scorecard scorecard) {
+        this.playerId = playerId;
+        this.displayName = displayName;
+        this.dictionaryVersion = scorecard == null ? null : scorecard.getDictionary().version();
+        this.scorecard = scorecard == null ? null : new CompactScorecard(scorecard);
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @return the version of the dictionary the scorecard's phrase ids refer to, if there is a scorecard
+     */
+    public String getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    public CompactScorecard getScorecard() {
+        return scorecard;
+    }
+}
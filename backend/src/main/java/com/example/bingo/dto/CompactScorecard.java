@@ -0,0 +1,33 @@
+package com.example.bingo.dto;
+
+import com.example.bingo.model.Scorecard;
+
+/**
+ * A scorecard as phrase ids into its game's dictionary, row-major, with {@code -1} for the free space.
+ */
+public class CompactScorecard {
+    private final String id;
+    private final int size;
+    private final int[] cells;
+
+    public CompactScorecard(Scorecard card) {
+        this.id = card.getId();
+        this.size = card.getSize();
+        this.cells = new int[card.getCellCount()];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = card.phraseIdAt(cell);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int[] getCells() {
+        return cells;
+    }
+}
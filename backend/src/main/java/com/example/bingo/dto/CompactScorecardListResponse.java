@@ -0,0 +1,25 @@
+package com.example.bingo.dto;
+
+import com.example.bingo.model.Scorecard;
+import java.util.List;
+
+public class CompactScorecardListResponse {
+    private final String dictionaryVersion;
+    private final List<CompactScorecard> scorecards;
+
+    public CompactScorecardListResponse(List<Scorecard> scorecards) {
+        this.dictionaryVersion = scorecards.isEmpty() ? null : scorecards.get(0).getDictionary().version();
+        this.scorecards = scorecards.stream().map(CompactScorecard::new).toList();
+    }
+
+    /**
+     * @return the version of the dictionary the cards' phrase ids refer to
+     */
+    public String getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    public List<CompactScorecard> getScorecards() {
+        return scorecards;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.bingo.dto;
+
+import java.time.Instant;
+
+public class DeckResponse {
+    private final String name;
+    private final int phraseCount;
+    private final boolean builtIn;
+    private final Instant loadedAt;
+
+    public DeckResponse(String name, int phraseCount, boolean builtIn, Instant loadedAt) {
+        this.name = name;
+        this.phraseCount = phraseCount;
+        this.builtIn = builtIn;
+        this.loadedAt = loadedAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPhraseCount() {
+        return phraseCount;
+    }
+
+    /**
+     * @return whether this is the deck bundled with the application rather than a deck file
+     */
+    public boolean isBuiltIn() {
+        return builtIn;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.bingo.dto;
+
+import java.util.List;
+
+public class DictionaryResponse {
+    private final String deck;
+    private final String version;
+    private final List<String> phrases;
+
+    public DictionaryResponse(String deck, String version, List<String> phrases) {
+        this.deck = deck;
+        this.version = version;
+        this.phrases = phrases;
+    }
+
+    public String getDeck() {
+        return deck;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return every phrase of the deck, indexed by phrase id
+     */
+    public List<String> getPhrases() {
+        return phrases;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.bingo.dto;
+
+/**
+ * Distribution of a number of further draws over the trials of a forecast.
+ */
+public class DrawDistributionResponse {
+    private final int min;
+    private final int p10;
+    private final int p50;
+    private final int p90;
+    private final int max;
+    private final double mean;
+
+    public DrawDistributionResponse(int min, int p10, int p50, int p90, int max, double mean) {
+        this.min = min;
+        this.p10 = p10;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getP10() {
+        return p10;
+    }
+
+    public int getP50() {
+        return p50;
+    }
+
+    public int getP90() {
+        return p90;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+}
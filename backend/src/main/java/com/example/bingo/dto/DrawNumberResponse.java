@@ -1,13 +1,30 @@
 package com.example.bingo.dto;
 
+import com.example.bingo.model.Winner;
+import java.util.List;
+
 public class DrawNumberResponse extends GameStateResponse {
-    public DrawNumberResponse(GameStateResponse delegate) {
+    private final List<Winner> newWinners;
+
+    public DrawNumberResponse(GameStateResponse delegate, List<Winner> newWinners) {
         super(
+                delegate.getVersion(),
                 delegate.getStatus(),
+                delegate.getDeck(),
+                delegate.getCardSize(),
+                delegate.getPatterns(),
                 delegate.getCurrentCall(),
                 delegate.getCalledPhrases(),
                 delegate.getRemainingCalls(),
                 delegate.getPlayerCount(),
                 delegate.getWinners());
+        this.newWinners = newWinners;
+    }
+
+    /**
+     * Winners recorded automatically by this draw; always empty unless auto-adjudication is enabled.
+     */
+    public List<Winner> getNewWinners() {
+        return newWinners;
     }
 }
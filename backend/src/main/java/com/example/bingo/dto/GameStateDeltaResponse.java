@@ -0,0 +1,71 @@
+package com.example.bingo.dto;
+
+import com.example.bingo.model.GameStatus;
+import com.example.bingo.model.Winner;
+import java.util.List;
+
+/**
+ * Game state relative to a version the client already holds: only calls and winners added since
+ * then are included, unless {@code full} is set because the client's version is no longer usable.
+ */
+public class GameStateDeltaResponse {
+    private final long version;
+    private final boolean full;
+    private final GameStatus status;
+    private final String currentCall;
+    private final List<String> newCalls;
+    private final int remainingCalls;
+    private final int playerCount;
+    private final List<Winner> newWinners;
+
+    public GameStateDeltaResponse(
+            long version,
+            boolean full,
+            GameStatus status,
+            String currentCall,
+            List<String> newCalls,
+            int remainingCalls,
+            int playerCount,
+            List<Winner> newWinners) {
+        this.version = version;
+        this.full = full;
+        this.status = status;
+        this.currentCall = currentCall;
+        this.newCalls = newCalls;
+        this.remainingCalls = remainingCalls;
+        this.playerCount = playerCount;
+        this.newWinners = newWinners;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public String getCurrentCall() {
+        return currentCall;
+    }
+
+    public List<String> getNewCalls() {
+        return newCalls;
+    }
+
+    public int getRemainingCalls() {
+        return remainingCalls;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public List<Winner> getNewWinners() {
+        return newWinners;
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.bingo.dto;
+import com.example.bingo.model.ClaimType;
 import com.example.bingo.model.GameStatus;
 import com.example.bingo.model.Winner;
 import java.util.List;
+import java.util.Set;
 
 public class GameStateResponse {
+    private final long version;
     private final GameStatus status;
+    private final String deck;
+    private final int cardSize;
+    private final Set<ClaimType> patterns;
     private final String currentCall;
     private final List<String> calledPhrases;
     private final int remainingCalls;
@@ -12,13 +18,21 @@ public class GameStateResponse {
     private final List<Winner> winners;
 
     public GameStateResponse(
+            long version,
             GameStatus status,
+            String deck,
+            int cardSize,
+            Set<ClaimType> patterns,
             String currentCall,
             List<String> calledPhrases,
             int remainingCalls,
             int playerCount,
             List<Winner> winners) {
+        this.version = version;
         this.status = status;
+        this.deck = deck;
+        this.cardSize = cardSize;
+        this.patterns = patterns;
         this.currentCall = currentCall;
         this.calledPhrases = calledPhrases;
         this.remainingCalls = remainingCalls;
@@ -26,10 +40,29 @@ public class GameStateResponse {
         this.winners = winners;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public GameStatus getStatus() {
         return status;
     }
 
+    public String getDeck() {
+        return deck;
+    }
+
+    public int getCardSize() {
+        return cardSize;
+    }
+
+    /**
+     * @return the win patterns that can be claimed in this game
+     */
+    public Set<ClaimType> getPatterns() {
+        return patterns;
+    }
+
     public String getCurrentCall() {
         return currentCall;
     }
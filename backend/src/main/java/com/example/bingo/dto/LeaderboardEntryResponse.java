@@ -0,0 +1,54 @@
+package com.example.bingo.dto;
+
+import java.time.Instant;
+
+public class LeaderboardEntryResponse {
+    private final String displayName;
+    private final String claimType;
+    private final long wins;
+    private final int bestDrawCount;
+    private final double averageDrawCount;
+    private final Instant lastWonAt;
+
+    public LeaderboardEntryResponse(
+            String displayName,
+            String claimType,
+            long wins,
+            int bestDrawCount,
+            double averageDrawCount,
+            Instant lastWonAt) {
+        this.displayName = displayName;
+        this.claimType = claimType;
+        this.wins = wins;
+        this.bestDrawCount = bestDrawCount;
+        this.averageDrawCount = averageDrawCount;
+        this.lastWonAt = lastWonAt;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @return the claim type, or {@code ANY} for totals across all claim types
+     */
+    public String getClaimType() {
+        return claimType;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public int getBestDrawCount() {
+        return bestDrawCount;
+    }
+
+    public double getAverageDrawCount() {
+        return averageDrawCount;
+    }
+
+    public Instant getLastWonAt() {
+        return lastWonAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.bingo.dto;
+
+import java.util.List;
+
+public class PacingForecastResponse {
+    private final long version;
+    private final int trials;
+    private final int cards;
+    private final int remainingCalls;
+    private final List<PatternForecastResponse> patterns;
+    private final DrawDistributionResponse drawsToGameEnd;
+
+    public PacingForecastResponse(
+            long version,
+            int trials,
+            int cards,
+            int remainingCalls,
+            List<PatternForecastResponse> patterns,
+            DrawDistributionResponse drawsToGameEnd) {
+        this.version = version;
+        this.trials = trials;
+        this.cards = cards;
+        this.remainingCalls = remainingCalls;
+        this.patterns = patterns;
+        this.drawsToGameEnd = drawsToGameEnd;
+    }
+
+    /**
+     * @return the game state version the forecast was made from
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int getTrials() {
+        return trials;
+    }
+
+    public int getCards() {
+        return cards;
+    }
+
+    public int getRemainingCalls() {
+        return remainingCalls;
+    }
+
+    public List<PatternForecastResponse> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * @return further draws until the last full card winner is recorded or the calls run out
+     */
+    public DrawDistributionResponse getDrawsToGameEnd() {
+        return drawsToGameEnd;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.bingo.dto;
+
+import com.example.bingo.model.ClaimType;
+
+public class PatternForecastResponse {
+    private final ClaimType claimType;
+    private final int contenders;
+    private final DrawDistributionResponse drawsToNextWinner;
+
+    public PatternForecastResponse(ClaimType claimType, int contenders, DrawDistributionResponse drawsToNextWinner) {
+        this.claimType = claimType;
+        this.contenders = contenders;
+        this.drawsToNextWinner = drawsToNextWinner;
+    }
+
+    public ClaimType getClaimType() {
+        return claimType;
+    }
+
+    /**
+     * @return the assigned cards whose players have not won this pattern yet
+     */
+    public int getContenders() {
+        return contenders;
+    }
+
+    /**
+     * @return further draws until one of the contenders completes the pattern, {@code 0} when one
+     *         already has; {@code null} when there are no contenders
+     */
+    public DrawDistributionResponse getDrawsToNextWinner() {
+        return drawsToNextWinner;
+    }
+}
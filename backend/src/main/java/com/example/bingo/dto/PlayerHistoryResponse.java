@@ -0,0 +1,30 @@
+package com.example.bingo.dto;
+
+import java.util.List;
+
+public class PlayerHistoryResponse {
+    private final String displayName;
+    private final List<LeaderboardEntryResponse> totals;
+    private final List<ArchivedWinResponse> recentWins;
+
+    public PlayerHistoryResponse(
+            String displayName,
+            List<LeaderboardEntryResponse> totals,
+            List<ArchivedWinResponse> recentWins) {
+        this.displayName = displayName;
+        this.totals = totals;
+        this.recentWins = recentWins;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public List<LeaderboardEntryResponse> getTotals() {
+        return totals;
+    }
+
+    public List<ArchivedWinResponse> getRecentWins() {
+        return recentWins;
+    }
+}
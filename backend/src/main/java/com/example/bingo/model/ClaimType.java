@@ -1,8 +1,19 @@
 package com.example.bingo.model;
 
+/**
+ * Win patterns. Journals store the ordinal, so new patterns are only ever appended.
+ */
 public enum ClaimType {
     ROW,
     COLUMN,
     DIAGONAL,
-    FULL_CARD
+    /** Every cell, also known as blackout. */
+    FULL_CARD,
+    FOUR_CORNERS,
+    /** Both diagonals. */
+    X,
+    /** The top row and the centre column. */
+    T,
+    /** The outer rows and columns. */
+    FRAME
 }
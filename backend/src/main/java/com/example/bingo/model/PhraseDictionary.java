@@ -0,0 +1,233 @@
+package com.example.bingo.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Immutable phrase table that interns every keyword to a small integer id.
+ * <p>
+ * Phrases are kept as one UTF-8 blob with an offset per id and looked up through an open-addressing
+ * table of ids, so a dictionary costs a few bytes per phrase beyond its text and no objects per
+ * phrase. Strings are only decoded when a phrase is rendered.
+ */
+public final class PhraseDictionary {
+
+    /** Longest phrase in UTF-8 bytes, and so in characters, that fits the game history's columns. */
+    public static final int MAX_PHRASE_BYTES = 255;
+
+    private static final int EMPTY = -1;
+
+    private final byte[] blob;
+    private final int[] offsets;
+    private final int[] table;
+    private final long checksum;
+    private final String version;
+
+    private PhraseDictionary(byte[] blob, int[] offsets, int[] table) {
+        this.blob = blob;
+        this.offsets = offsets;
+        this.table = table;
+        CRC32C crc = new CRC32C();
+        for (int id = 0; id < size(); id++) {
+            crc.update(blob, offsets[id], offsets[id + 1] - offsets[id]);
+            crc.update('\n');
+        }
+        this.checksum = ((long) size() << 32) | crc.getValue();
+        this.version = Long.toHexString(checksum);
+    }
+
+    public static PhraseDictionary of(List<String> phrases) {
+        Builder builder = new Builder(phrases.size(), 0);
+        for (String phrase : phrases) {
+            byte[] bytes = phrase.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_PHRASE_BYTES) {
+                throw new IllegalArgumentException(
+                        "Phrase is longer than %d bytes: %s".formatted(MAX_PHRASE_BYTES, phrase));
+            }
+            if (!builder.add(ByteBuffer.wrap(bytes), 0, bytes.length)) {
+                throw new IllegalArgumentException("Duplicate phrase: " + phrase);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads one phrase per line from UTF-8 text, e.g. a memory-mapped deck file. Lines are trimmed,
+     * blank lines skipped and repeated phrases keep their first id. The buffer is only read during
+     * the call; the dictionary keeps its own compact copy.
+     *
+     * @throws IllegalArgumentException when a phrase is longer than {@value #MAX_PHRASE_BYTES} bytes
+     */
+    public static PhraseDictionary parse(ByteBuffer utf8Lines) {
+        ByteBuffer text = utf8Lines.slice();
+        int length = text.limit();
+        int position = 0;
+        if (length >= 3 && text.get(0) == (byte) 0xEF && text.get(1) == (byte) 0xBB && text.get(2) == (byte) 0xBF) {
+            position = 3;
+        }
+        Builder builder = new Builder(Math.max(16, length / 16), length);
+        int line = 0;
+        while (position < length) {
+            line++;
+            int end = position;
+            while (end < length && text.get(end) != '\n') {
+                end++;
+            }
+            int from = position;
+            int to = end;
+            while (from < to && (text.get(from) & 0xFF) <= ' ') {
+                from++;
+            }
+            while (to > from && (text.get(to - 1) & 0xFF) <= ' ') {
+                to--;
+            }
+            if (to - from > MAX_PHRASE_BYTES) {
+                throw new IllegalArgumentException(
+                        "Line %d has a phrase longer than %d bytes".formatted(line, MAX_PHRASE_BYTES));
+            }
+            if (from < to) {
+                builder.add(text, from, to - from);
+            }
+            position = end + 1;
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    public String phrase(int id) {
+        return new String(blob, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the id of the phrase, or {@code -1} when it is not part of this dictionary
+     */
+    public int idOf(String phrase) {
+        byte[] bytes = phrase.getBytes(StandardCharsets.UTF_8);
+        int mask = table.length - 1;
+        for (int slot = hash(bytes, 0, bytes.length) & mask; ; slot = (slot + 1) & mask) {
+            int id = table[slot];
+            if (id == EMPTY) {
+                return -1;
+            }
+            if (Arrays.equals(blob, offsets[id], offsets[id + 1], bytes, 0, bytes.length)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * @return a view that decodes each phrase when it is read
+     */
+    public List<String> phrases() {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return phrase(index);
+            }
+
+            @Override
+            public int size() {
+                return PhraseDictionary.this.size();
+            }
+        };
+    }
+
+    /**
+     * Identifies the exact phrase list: its size in the high half and a CRC32C of the phrases in
+     * id order in the low half.
+     */
+    public long checksum() {
+        return checksum;
+    }
+
+    /**
+     * @return {@link #checksum()} in hex, the form handed to clients that cache the phrase list
+     */
+    public String version() {
+        return version;
+    }
+
+    private static int hash(byte[] bytes, int from, int length) {
+        int hash = 0x811C9DC5;
+        for (int index = from; index < from + length; index++) {
+            hash = (hash ^ bytes[index]) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Builder {
+        private byte[] blob;
+        private int blobLength;
+        private int[] offsets;
+        private int count;
+        private int[] table;
+
+        Builder(int expectedPhrases, int expectedBytes) {
+            blob = new byte[Math.max(64, expectedBytes)];
+            offsets = new int[expectedPhrases + 1];
+            table = newTable(expectedPhrases);
+        }
+
+        /**
+         * Copies the phrase onto the end of the blob and keeps it unless it is already present.
+         *
+         * @return {@code false} when the phrase is already present
+         */
+        boolean add(ByteBuffer source, int from, int length) {
+            if ((count + 1) * 2 > table.length) {
+                rehash();
+            }
+            if (blobLength + length > blob.length) {
+                blob = Arrays.copyOf(blob, Math.max(blob.length * 2, blobLength + length));
+            }
+            source.get(from, blob, blobLength, length);
+            int start = blobLength;
+            int end = start + length;
+            int mask = table.length - 1;
+            int slot = hash(blob, start, length) & mask;
+            for (int id = table[slot]; id != EMPTY; slot = (slot + 1) & mask, id = table[slot]) {
+                if (Arrays.equals(blob, offsets[id], offsets[id + 1], blob, start, end)) {
+                    return false;
+                }
+            }
+            blobLength = end;
+            if (count + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[count + 1] = blobLength;
+            table[slot] = count++;
+            return true;
+        }
+
+        PhraseDictionary build() {
+            return new PhraseDictionary(
+                    Arrays.copyOf(blob, blobLength), Arrays.copyOf(offsets, count + 1), table);
+        }
+
+        private void rehash() {
+            int[] larger = newTable(table.length);
+            int mask = larger.length - 1;
+            for (int id = 0; id < count; id++) {
+                int slot = hash(blob, offsets[id], offsets[id + 1] - offsets[id]) & mask;
+                while (larger[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                larger[slot] = id;
+            }
+            table = larger;
+        }
+
+        private static int[] newTable(int phrases) {
+            int[] table = new int[Math.max(16, Integer.highestOneBit(Math.max(1, phrases) * 2) << 1)];
+            Arrays.fill(table, EMPTY);
+            return table;
+        }
+    }
+}
@@ -9,7 +9,8 @@ public class PlayerState {
     private final UUID id;
     private final String displayName;
     private final Instant joinedAt;
-    private Scorecard scorecard;
+    private volatile Scorecard scorecard;
+    private volatile long lastActiveNanos = System.nanoTime();
 
     public PlayerState(UUID id, String displayName, Instant joinedAt) {
         this.id = Objects.requireNonNull(id, "id");
@@ -36,4 +37,15 @@ public class PlayerState {
     public void setScorecard(Scorecard scorecard) {
         this.scorecard = scorecard;
     }
+
+    /**
+     * @return the {@link System#nanoTime()} of the player's last request
+     */
+    public long getLastActiveNanos() {
+        return lastActiveNanos;
+    }
+
+    public void touch(long nanos) {
+        this.lastActiveNanos = nanos;
+    }
 }
@@ -1,26 +1,40 @@
 package com.example.bingo.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Immutable representation of a Bingo scorecard.
+ * <p>
+ * Cells are stored row-major as interned phrase ids; phrases are only materialised when the
+ * card is rendered for a client.
  */
 public final class Scorecard {
 
+    public static final String FREE_SPACE = "FREE SPACE";
+    public static final int FREE_SPACE_ID = -1;
+
     private final String id;
-    private final List<List<String>> rows;
+    private final int size;
+    private final int[] cells;
+    private final PhraseDictionary dictionary;
+    private final long fingerprintHigh;
+    private final long fingerprintLow;
 
-    public Scorecard(String id, List<List<String>> rows) {
+    public Scorecard(String id, int size, int[] cells, PhraseDictionary dictionary) {
         this.id = Objects.requireNonNull(id, "id");
-        List<List<String>> defensive = new ArrayList<>(rows.size());
-        for (List<String> row : rows) {
-            defensive.add(List.copyOf(row));
+        if (cells.length != size * size) {
+            throw new IllegalArgumentException("Expected %d cells but got %d".formatted(size * size, cells.length));
         }
-        this.rows = Collections.unmodifiableList(defensive);
+        this.size = size;
+        this.cells = cells.clone();
+        this.dictionary = Objects.requireNonNull(dictionary, "dictionary");
+        long[] fingerprint = fingerprint(this.cells);
+        this.fingerprintHigh = fingerprint[0];
+        this.fingerprintLow = fingerprint[1];
     }
 
     public String getId() {
@@ -28,21 +42,102 @@ public final class Scorecard {
     }
 
     public List<List<String>> getRows() {
+        List<List<String>> rows = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            String[] values = new String[size];
+            for (int col = 0; col < size; col++) {
+                values[col] = getValue(row, col);
+            }
+            rows.add(List.of(values));
+        }
         return rows;
     }
 
     public int getSize() {
-        return rows.size();
+        return size;
     }
 
     public String getValue(int row, int column) {
-        return rows.get(row).get(column);
+        int phraseId = cells[row * size + column];
+        return phraseId == FREE_SPACE_ID ? FREE_SPACE : dictionary.phrase(phraseId);
+    }
+
+    /**
+     * @return the phrase id stored in the given row-major cell, or {@link #FREE_SPACE_ID}
+     */
+    public int phraseIdAt(int cell) {
+        return cells[cell];
+    }
+
+    @JsonIgnore
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * @return the dictionary that resolves this card's phrase ids
+     */
+    @JsonIgnore
+    public PhraseDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Builds one 64-cell word of the mask of cells whose phrase has been called: bit {@code i} of
+     * word {@code w} is row-major cell {@code 64 * w + i}. Cards of up to 8x8 fit word 0.
+     */
+    public long markedWord(BitSet calledPhraseIds, int word) {
+        long mask = 0;
+        int end = Math.min(cells.length, (word + 1) * Long.SIZE);
+        for (int cell = word * Long.SIZE; cell < end; cell++) {
+            int phraseId = cells[cell];
+            if (phraseId == FREE_SPACE_ID || calledPhraseIds.get(phraseId)) {
+                mask |= 1L << cell;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * High 64 bits of the card's 128-bit fingerprint over its row-major phrase ids. Two cards with
+     * the same phrases in the same positions always share a fingerprint.
+     */
+    public long fingerprintHigh() {
+        return fingerprintHigh;
+    }
+
+    /**
+     * Low 64 bits of the card's 128-bit fingerprint, see {@link #fingerprintHigh()}.
+     */
+    public long fingerprintLow() {
+        return fingerprintLow;
+    }
+
+    /**
+     * Two independently seeded MurmurHash3-style lanes, finalized and cross-mixed into 128 bits.
+     */
+    private static long[] fingerprint(int[] cells) {
+        long h1 = 0x9E3779B97F4A7C15L;
+        long h2 = 0xC2B2AE3D27D4EB4FL;
+        for (int cell : cells) {
+            long k = (cell & 0xFFFFFFFFL) + 1;
+            h1 = Long.rotateLeft(h1 ^ mix(k * 0x87C37B91114253D5L), 27) * 5 + 0x52DCE729;
+            h2 = Long.rotateLeft(h2 ^ mix(k * 0x4CF5AD432745937FL), 31) * 5 + 0x38495AB5;
+        }
+        h1 = mix(h1 ^ cells.length);
+        h2 = mix(h2 ^ cells.length);
+        h1 += h2;
+        h2 += h1;
+        return new long[] {h1, h2};
     }
 
-    public String fingerprint() {
-        return rows.stream()
-                .flatMap(List::stream)
-                .collect(Collectors.joining("-"));
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
     }
 
     @Override
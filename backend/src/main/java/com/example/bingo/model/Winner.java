@@ -7,12 +7,17 @@ public class Winner {
     private final UUID playerId;
     private final String displayName;
     private final ClaimType claimType;
+    private final int drawCount;
     private final Instant timestamp;
 
-    public Winner(UUID playerId, String displayName, ClaimType claimType, Instant timestamp) {
+    /**
+     * @param drawCount number of phrases called when the win was recorded
+     */
+    public Winner(UUID playerId, String displayName, ClaimType claimType, int drawCount, Instant timestamp) {
         this.playerId = playerId;
         this.displayName = displayName;
         this.claimType = claimType;
+        this.drawCount = drawCount;
         this.timestamp = timestamp;
     }
 
@@ -28,6 +33,10 @@ public class Winner {
         return claimType;
     }
 
+    public int getDrawCount() {
+        return drawCount;
+    }
+
     public Instant getTimestamp() {
         return timestamp;
     }
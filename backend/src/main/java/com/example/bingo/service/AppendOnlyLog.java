@@ -0,0 +1,65 @@
+package com.example.bingo.service;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Single-writer list that only grows until it is cleared. {@link #view()} is O(1): slots below the
+ * current size are never written again and clearing swaps in a fresh array, so a view stays valid
+ * and immutable for as long as readers hold it, even while the writer keeps appending.
+ * Views must be published to other threads through a volatile write.
+ */
+final class AppendOnlyLog<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    void add(T element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        elements = new Object[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    List<T> view() {
+        return new View<>(elements, size);
+    }
+
+    private static final class View<T> extends AbstractList<T> implements RandomAccess {
+
+        private final Object[] elements;
+        private final int size;
+
+        private View(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
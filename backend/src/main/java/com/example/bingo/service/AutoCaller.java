@@ -0,0 +1,162 @@
+package com.example.bingo.service;
+
+import com.example.bingo.dto.CallerStatusResponse;
+import com.example.bingo.model.GameStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server-side caller that draws the next phrase of one game at a fixed cadence.
+ * <p>
+ * Draws are scheduled at a fixed rate on a shared scheduler, so the cadence does not drift with
+ * request load or client timers. A cadence change keeps the time already waited for the next draw.
+ * The caller stops by itself once the game completes, including when the full-card winner limit
+ * is reached, or when the game is reset underneath it.
+ */
+public final class AutoCaller {
+
+    public enum State {
+        STOPPED,
+        RUNNING,
+        PAUSED
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(AutoCaller.class);
+
+    private final GameService game;
+    private final ScheduledExecutorService scheduler;
+    private final Duration minInterval;
+    private State state = State.STOPPED;
+    private Duration interval;
+    private ScheduledFuture<?> task;
+    private long generation;
+    private long nextDrawNanos;
+
+    AutoCaller(GameService game, ScheduledExecutorService scheduler, Duration defaultInterval, Duration minInterval) {
+        this.game = game;
+        this.scheduler = scheduler;
+        this.interval = defaultInterval;
+        this.minInterval = minInterval;
+    }
+
+    /**
+     * Starts calling with the given cadence, or the current one when {@code null}; the first phrase
+     * is drawn one interval from now.
+     */
+    public synchronized CallerStatusResponse start(Duration cadence) {
+        if (game.getCurrentState().getStatus() != GameStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Start the game before starting the caller");
+        }
+        if (cadence != null) {
+            interval = validate(cadence);
+        }
+        schedule(interval.toNanos());
+        return status();
+    }
+
+    public synchronized CallerStatusResponse pause() {
+        if (state != State.RUNNING) {
+            throw new IllegalStateException("The caller is not running");
+        }
+        cancel();
+        state = State.PAUSED;
+        return status();
+    }
+
+    public synchronized CallerStatusResponse resume() {
+        if (state != State.PAUSED) {
+            throw new IllegalStateException("The caller is not paused");
+        }
+        return start(null);
+    }
+
+    /**
+     * Changes the cadence. When running, the next draw happens one new interval after the previous
+     * one, or right away if that moment has already passed.
+     */
+    public synchronized CallerStatusResponse changeInterval(Duration cadence) {
+        Duration previous = interval;
+        interval = validate(cadence);
+        if (state == State.RUNNING) {
+            long lastDraw = nextDrawNanos - previous.toNanos();
+            schedule(Math.max(0, lastDraw + interval.toNanos() - System.nanoTime()));
+        }
+        return status();
+    }
+
+    public synchronized void stop() {
+        cancel();
+        state = State.STOPPED;
+    }
+
+    public synchronized boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public synchronized CallerStatusResponse status() {
+        Instant nextDrawAt = state == State.RUNNING
+                ? Instant.now().plusNanos(Math.max(0, nextDrawNanos - System.nanoTime()))
+                : null;
+        return new CallerStatusResponse(state.name(), interval, nextDrawAt);
+    }
+
+    private void schedule(long initialDelayNanos) {
+        cancel();
+        long scheduled = generation;
+        long period = interval.toNanos();
+        nextDrawNanos = System.nanoTime() + initialDelayNanos;
+        task = scheduler.scheduleAtFixedRate(() -> tick(scheduled), initialDelayNanos, period, TimeUnit.NANOSECONDS);
+        state = State.RUNNING;
+    }
+
+    /**
+     * Draws one phrase. Each schedule has its own generation, so a draw that was already under way
+     * when the caller was paused or rescheduled cannot stop the schedule that replaced it.
+     */
+    private void tick(long scheduled) {
+        synchronized (this) {
+            if (scheduled != generation) {
+                return;
+            }
+            nextDrawNanos += interval.toNanos();
+        }
+        try {
+            if (game.getCurrentState().getStatus() != GameStatus.IN_PROGRESS
+                    || game.drawNextNumber().getStatus() == GameStatus.COMPLETE) {
+                log.info("Game complete, stopping the caller");
+                stopIfCurrent(scheduled);
+            }
+        } catch (IllegalStateException e) {
+            log.info("Stopping the caller: {}", e.getMessage());
+            stopIfCurrent(scheduled);
+        } catch (RuntimeException e) {
+            log.warn("Automatic draw failed", e);
+        }
+    }
+
+    private synchronized void stopIfCurrent(long scheduled) {
+        if (scheduled == generation) {
+            stop();
+        }
+    }
+
+    private void cancel() {
+        generation++;
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    private Duration validate(Duration cadence) {
+        if (cadence.compareTo(minInterval) < 0) {
+            throw new IllegalArgumentException("Caller interval must be at least " + minInterval);
+        }
+        return cadence;
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PlayerState;
+import com.example.bingo.model.Scorecard;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Inverted phrase to (card, cell) index over the assigned scorecards of one game.
+ * <p>
+ * Every assigned card occupies a slot holding its marked mask as two 64-cell words; a posting
+ * list per phrase id stores {@code slot << 7 | cell} so that marking a drawn phrase only touches the cards that
+ * carry it. Each slot remembers where its cells sit in their posting lists, so removing a card
+ * swap-removes its postings in O(cells) and frees its slot for the next card; the index stays as
+ * large as the set of assigned cards. Not thread-safe, callers hold the game lock.
+ */
+final class CardIndex {
+
+    private static final int CELL_BITS = 7;
+    private static final int CELL_MASK = (1 << CELL_BITS) - 1;
+
+    private final int[][] postings;
+    private final int[] postingSizes;
+    private final Map<UUID, Integer> slotByPlayer = new HashMap<>();
+
+    private PlayerState[] owners = new PlayerState[64];
+    private Scorecard[] cards = new Scorecard[64];
+    private long[] baseLow = new long[64];
+    private long[] baseHigh = new long[64];
+    private long[] marksLow = new long[64];
+    private long[] marksHigh = new long[64];
+    private int[] awarded = new int[64];
+    // Per slot and cell, the position of the cell's entry in its phrase's posting list.
+    private int[][] positions = new int[64][];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+
+    CardIndex(int phraseCount) {
+        this.postings = new int[phraseCount][];
+        this.postingSizes = new int[phraseCount];
+    }
+
+    /**
+     * Indexes the player's card, marking every phrase that has already been called.
+     */
+    void add(PlayerState player, Scorecard card, BitSet calledPhraseIds) {
+        remove(player.getId());
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : slotCount++;
+        if (slot == owners.length) {
+            int capacity = owners.length * 2;
+            owners = Arrays.copyOf(owners, capacity);
+            cards = Arrays.copyOf(cards, capacity);
+            baseLow = Arrays.copyOf(baseLow, capacity);
+            baseHigh = Arrays.copyOf(baseHigh, capacity);
+            marksLow = Arrays.copyOf(marksLow, capacity);
+            marksHigh = Arrays.copyOf(marksHigh, capacity);
+            awarded = Arrays.copyOf(awarded, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+        }
+        owners[slot] = player;
+        cards[slot] = card;
+        BitSet none = new BitSet();
+        baseLow[slot] = card.markedWord(none, 0);
+        baseHigh[slot] = card.markedWord(none, 1);
+        marksLow[slot] = card.markedWord(calledPhraseIds, 0);
+        marksHigh[slot] = card.markedWord(calledPhraseIds, 1);
+        awarded[slot] = 0;
+        if (positions[slot] == null || positions[slot].length != card.getCellCount()) {
+            positions[slot] = new int[card.getCellCount()];
+        }
+        for (int cell = 0; cell < card.getCellCount(); cell++) {
+            int phraseId = card.phraseIdAt(cell);
+            if (phraseId != Scorecard.FREE_SPACE_ID) {
+                positions[slot][cell] = append(phraseId, slot << CELL_BITS | cell);
+            }
+        }
+        slotByPlayer.put(player.getId(), slot);
+    }
+
+    void remove(UUID playerId) {
+        Integer slot = slotByPlayer.remove(playerId);
+        if (slot == null) {
+            return;
+        }
+        Scorecard card = cards[slot];
+        for (int cell = 0; cell < card.getCellCount(); cell++) {
+            int phraseId = card.phraseIdAt(cell);
+            if (phraseId != Scorecard.FREE_SPACE_ID) {
+                removePosting(phraseId, positions[slot][cell]);
+            }
+        }
+        owners[slot] = null;
+        cards[slot] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * @return the number of cards currently indexed
+     */
+    int size() {
+        return slotByPlayer.size();
+    }
+
+    /**
+     * @return whether the player's card has every cell of one of the pattern's layouts marked;
+     *         {@code false} when the player has no indexed card
+     */
+    boolean matches(UUID playerId, WinPatterns patterns, ClaimType type) {
+        Integer slot = slotByPlayer.get(playerId);
+        return slot != null && patterns.matches(type, marksLow[slot], marksHigh[slot]);
+    }
+
+    /**
+     * Restores the claim types already awarded to the player, bit {@code i} being claim type ordinal {@code i}.
+     */
+    void setAwarded(UUID playerId, int awardedTypes) {
+        Integer slot = slotByPlayer.get(playerId);
+        if (slot != null) {
+            awarded[slot] = awardedTypes;
+        }
+    }
+
+    void markAwarded(UUID playerId, ClaimType type) {
+        Integer slot = slotByPlayer.get(playerId);
+        if (slot != null) {
+            awarded[slot] |= 1 << type.ordinal();
+        }
+    }
+
+    /**
+     * Clears every card back to its free-space mask, as at the start of a new game.
+     */
+    void clearMarks() {
+        System.arraycopy(baseLow, 0, marksLow, 0, slotCount);
+        System.arraycopy(baseHigh, 0, marksHigh, 0, slotCount);
+        Arrays.fill(awarded, 0, slotCount, 0);
+    }
+
+    /**
+     * Marks the phrase on every card holding it and reports each hit to the listener.
+     */
+    void mark(int phraseId, HitListener listener) {
+        int[] entries = postings[phraseId];
+        int size = postingSizes[phraseId];
+        for (int index = 0; index < size; index++) {
+            int entry = entries[index];
+            int slot = entry >>> CELL_BITS;
+            PlayerState owner = owners[slot];
+            if (owner == null) {
+                continue;
+            }
+            int cell = entry & CELL_MASK;
+            if (cell < Long.SIZE) {
+                marksLow[slot] |= 1L << cell;
+            } else {
+                marksHigh[slot] |= 1L << cell;
+            }
+            listener.onHit(owner, cell, marksLow[slot], marksHigh[slot], awarded[slot]);
+        }
+    }
+
+    /**
+     * @return the position of the entry in the phrase's posting list
+     */
+    private int append(int phraseId, int entry) {
+        int[] entries = postings[phraseId];
+        int size = postingSizes[phraseId];
+        if (entries == null) {
+            entries = new int[16];
+        } else if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        entries[size] = entry;
+        postings[phraseId] = entries;
+        postingSizes[phraseId] = size + 1;
+        return size;
+    }
+
+    /**
+     * Swap-removes the entry at {@code index}, moving the list's last entry into its place.
+     */
+    private void removePosting(int phraseId, int index) {
+        int[] entries = postings[phraseId];
+        int last = --postingSizes[phraseId];
+        int moved = entries[last];
+        entries[index] = moved;
+        positions[moved >>> CELL_BITS][moved & CELL_MASK] = index;
+    }
+
+    @FunctionalInterface
+    interface HitListener {
+        void onHit(PlayerState owner, int cell, long markedLow, long markedHigh, int awardedTypes);
+    }
+}
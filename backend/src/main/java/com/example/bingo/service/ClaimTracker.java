@@ -0,0 +1,130 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.Scorecard;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-player claim throttle and claim result cache, both consulted before a claim takes the game.
+ * <p>
+ * The throttle is a generic cell rate algorithm: each player keeps one theoretical arrival time
+ * that every allowed claim pushes back by the interval, and a claim is refused while that time is
+ * more than {@code burst - 1} intervals ahead of now.
+ * <p>
+ * A rejected claim cannot turn into an accepted one until the game draws again, starts, resets or
+ * gives the player another card, so rejections are cached per claim type together with the game
+ * epoch, draw count and card they were evaluated against, and a repeated claim that matches all
+ * three is answered without the game lock.
+ */
+final class ClaimTracker {
+
+    private static final ClaimType[] CLAIM_TYPES = ClaimType.values();
+
+    private final ConcurrentMap<UUID, PlayerClaims> players = new ConcurrentHashMap<>();
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    ClaimTracker(Duration interval, int burst) {
+        this.intervalNanos = interval.toNanos();
+        this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+    }
+
+    /**
+     * Admits one claim from the player.
+     *
+     * @throws RateLimitedException when the player is over their claim rate
+     */
+    void acquire(UUID playerId, long nowNanos) {
+        if (intervalNanos <= 0) {
+            return;
+        }
+        AtomicLong arrival = claims(playerId, nowNanos).arrival;
+        while (true) {
+            long scheduled = arrival.get();
+            long start = scheduled - nowNanos > 0 ? scheduled : nowNanos;
+            long ahead = start - nowNanos;
+            if (ahead > burstNanos) {
+                throw new RateLimitedException(
+                        "Too many claims, slow down", Duration.ofNanos(ahead - burstNanos));
+            }
+            if (arrival.compareAndSet(scheduled, start + intervalNanos)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the cached rejection for this exact game position, or {@code null}
+     */
+    Rejection cached(UUID playerId, ClaimType type, Scorecard card, long epoch, int draws) {
+        PlayerClaims claims = players.get(playerId);
+        if (claims == null) {
+            return null;
+        }
+        Rejection rejection = claims.rejections.get(type.ordinal());
+        return rejection != null && rejection.card == card && rejection.epoch == epoch && rejection.draws == draws
+                ? rejection
+                : null;
+    }
+
+    void remember(
+            UUID playerId,
+            ClaimType type,
+            Scorecard card,
+            long epoch,
+            int draws,
+            GameMetrics.ClaimOutcome outcome,
+            String message) {
+        claims(playerId, System.nanoTime()).rejections.set(type.ordinal(), new Rejection(card, epoch, draws, outcome, message));
+    }
+
+    void forget(UUID playerId) {
+        players.remove(playerId);
+    }
+
+    void clear() {
+        players.clear();
+    }
+
+    private PlayerClaims claims(UUID playerId, long nowNanos) {
+        return players.computeIfAbsent(playerId, id -> new PlayerClaims(nowNanos));
+    }
+
+    static final class Rejection {
+        private final Scorecard card;
+        private final long epoch;
+        private final int draws;
+        private final GameMetrics.ClaimOutcome outcome;
+        private final String message;
+
+        private Rejection(Scorecard card, long epoch, int draws, GameMetrics.ClaimOutcome outcome, String message) {
+            this.card = card;
+            this.epoch = epoch;
+            this.draws = draws;
+            this.outcome = outcome;
+            this.message = message;
+        }
+
+        GameMetrics.ClaimOutcome outcome() {
+            return outcome;
+        }
+
+        String message() {
+            return message;
+        }
+    }
+
+    private static final class PlayerClaims {
+        private final AtomicLong arrival;
+        private final AtomicReferenceArray<Rejection> rejections = new AtomicReferenceArray<>(CLAIM_TYPES.length);
+
+        private PlayerClaims(long nowNanos) {
+            this.arrival = new AtomicLong(nowNanos);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.PhraseDictionary;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * One loaded version of a named phrase deck. A reload produces a new instance; games keep the
+ * dictionary of the version they were reset with.
+ */
+public final class Deck {
+
+    private final String name;
+    private final PhraseDictionary dictionary;
+    private final Path source;
+    private final Instant loadedAt;
+
+    Deck(String name, PhraseDictionary dictionary, Path source, Instant loadedAt) {
+        this.name = name;
+        this.dictionary = dictionary;
+        this.source = source;
+        this.loadedAt = loadedAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PhraseDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * @return the deck file, or {@code null} for the built-in deck
+     */
+    public Path getSource() {
+        return source;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
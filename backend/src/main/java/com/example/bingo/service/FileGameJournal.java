@@ -0,0 +1,459 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.Scorecard;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only binary journal of one room, stored in a single file.
+ * <p>
+ * Each record is {@code [int length][int crc32c][byte type][payload]}, where the checksum covers the
+ * type and payload. Appends are write-behind: the mutating command only encodes its record into an
+ * in-memory batch, and {@link #flush()}, called periodically by {@link FileJournalStore}, writes the
+ * whole batch and forces it to disk, so no file I/O runs on the request path and a crash loses at most
+ * one flush interval of events. A torn or corrupt tail is cut off on replay. Cards and call
+ * orders are stored as phrase ids, so every reset records the deck it selected together with the
+ * checksum of that deck's phrases; a journal whose deck has since changed or disappeared is set
+ * aside rather than replayed.
+ * <p>
+ * A hard reset drops every player, so the unwritten batch is discarded and the next flush truncates
+ * the file back to its header before writing the reset; this keeps a long-lived room's journal proportional to its current game.
+ */
+final class FileGameJournal implements GameJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(FileGameJournal.class);
+
+    private static final int MAGIC = 0x424E474A; // "BNGJ"
+    private static final int FORMAT = 3;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_OVERHEAD = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private static final byte PLAYER_REGISTERED = 1;
+    private static final byte CARD_ASSIGNED = 2;
+    private static final byte GAME_RESET = 3;
+    private static final byte CALL_ORDER_SHUFFLED = 4;
+    private static final byte GAME_STARTED = 5;
+    private static final byte PHRASE_DRAWN = 6;
+    private static final byte CLAIM_ACCEPTED = 7;
+    private static final byte PLAYER_EVICTED = 8;
+
+    private final Path path;
+    private final Function<String, PhraseDictionary> decks;
+    private final CRC32C crc = new CRC32C();
+    private FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+    // Records appended since the last flush, and whether the file must be truncated before them.
+    private final Object batchLock = new Object();
+    private ByteBuffer batch = ByteBuffer.allocate(4096);
+    private boolean truncateRequested;
+    private boolean closed;
+    // Owned by the flushing thread: the batch being written, still readable if a write failed.
+    private ByteBuffer writing = ByteBuffer.allocate(4096).flip();
+    private boolean truncating;
+
+    /**
+     * @param decks resolves a deck name to its current dictionary, or {@code null} if it is gone
+     */
+    FileGameJournal(Path path, Function<String, PhraseDictionary> decks) {
+        this.path = path;
+        this.decks = decks;
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open game journal " + path, e);
+        }
+    }
+
+    @Override
+    public void playerRegistered(UUID playerId, String displayName, Instant joinedAt) {
+        begin(PLAYER_REGISTERED);
+        putUuid(playerId);
+        putString(displayName);
+        putInstant(joinedAt);
+        append();
+    }
+
+    @Override
+    public void cardAssigned(UUID playerId, Scorecard card) {
+        begin(CARD_ASSIGNED);
+        putUuid(playerId);
+        putString(card.getId());
+        ensure(1 + 4 * card.getCellCount());
+        buffer.put((byte) card.getSize());
+        for (int cell = 0; cell < card.getCellCount(); cell++) {
+            buffer.putInt(card.phraseIdAt(cell));
+        }
+        append();
+    }
+
+    @Override
+    public void playerEvicted(UUID playerId) {
+        begin(PLAYER_EVICTED);
+        putUuid(playerId);
+        append();
+    }
+
+    @Override
+    public void gameReset(boolean dropPlayers, String deck, PhraseDictionary dictionary, WinPatterns patterns) {
+        if (dropPlayers) {
+            synchronized (batchLock) {
+                batch.clear();
+                truncateRequested = true;
+            }
+        }
+        begin(GAME_RESET);
+        ensure(1);
+        buffer.put((byte) (dropPlayers ? 1 : 0));
+        putString(deck);
+        ensure(8 + 1 + 4);
+        buffer.putLong(dictionary.checksum());
+        buffer.put((byte) patterns.getCardSize());
+        int types = 0;
+        for (ClaimType type : patterns.getTypes()) {
+            types |= 1 << type.ordinal();
+        }
+        buffer.putInt(types);
+        append();
+    }
+
+    @Override
+    public void callOrderShuffled(int[] callOrder) {
+        begin(CALL_ORDER_SHUFFLED);
+        ensure(4 + 4 * callOrder.length);
+        buffer.putInt(callOrder.length);
+        for (int phraseId : callOrder) {
+            buffer.putInt(phraseId);
+        }
+        append();
+    }
+
+    @Override
+    public void gameStarted(Instant startedAt) {
+        begin(GAME_STARTED);
+        putInstant(startedAt);
+        append();
+    }
+
+    @Override
+    public void phraseDrawn(Instant drawnAt) {
+        begin(PHRASE_DRAWN);
+        putInstant(drawnAt);
+        append();
+    }
+
+    @Override
+    public void claimAccepted(UUID playerId, ClaimType type, Instant acceptedAt) {
+        begin(CLAIM_ACCEPTED);
+        putUuid(playerId);
+        ensure(1);
+        buffer.put((byte) type.ordinal());
+        putInstant(acceptedAt);
+        append();
+    }
+
+    /**
+     * Decodes the journal from a read-only mapping of the file. Stops at the first record that is
+     * truncated or fails its checksum and cuts the file there, so new events follow the last good one.
+     */
+    @Override
+    public synchronized boolean replay(GameJournal target) {
+        try {
+            long size = channel.size();
+            if (size <= HEADER_BYTES) {
+                return false;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.position(HEADER_BYTES);
+            PhraseDictionary[] dictionary = new PhraseDictionary[1];
+            int events = 0;
+            CRC32C check = new CRC32C();
+            while (mapped.remaining() >= RECORD_OVERHEAD + 1) {
+                int start = mapped.position();
+                int length = mapped.getInt();
+                int expected = mapped.getInt();
+                if (length < 1 || length > MAX_RECORD_BYTES || length > mapped.remaining()) {
+                    mapped.position(start);
+                    break;
+                }
+                ByteBuffer record = mapped.slice(mapped.position(), length);
+                check.reset();
+                check.update(record.duplicate());
+                if ((int) check.getValue() != expected) {
+                    mapped.position(start);
+                    break;
+                }
+                mapped.position(mapped.position() + length);
+                if (!dispatch(record, target, dictionary)) {
+                    setAside("its deck has changed since it was written");
+                    return false;
+                }
+                events++;
+            }
+            if (mapped.position() < size) {
+                log.warn("Discarding {} bytes of torn journal tail in {}", size - mapped.position(), path);
+                channel.truncate(mapped.position());
+            }
+            channel.position(channel.size());
+            return events > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to replay game journal " + path, e);
+        }
+    }
+
+    /**
+     * Writes the batch appended since the last flush and forces it to disk. A batch that fails to
+     * write is kept and retried first on the next flush.
+     */
+    synchronized void flush() {
+        synchronized (batchLock) {
+            if (truncateRequested) {
+                truncateRequested = false;
+                truncating = true;
+                writing.clear().flip();
+            }
+            if (!writing.hasRemaining()) {
+                ByteBuffer appended = batch;
+                batch = writing.clear();
+                writing = appended.flip();
+            }
+        }
+        if ((!truncating && !writing.hasRemaining()) || !channel.isOpen()) {
+            return;
+        }
+        try {
+            if (truncating) {
+                channel.truncate(HEADER_BYTES);
+                channel.position(HEADER_BYTES);
+                truncating = false;
+            }
+            while (writing.hasRemaining()) {
+                channel.write(writing);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            log.warn("Unable to flush game journal {}", path, e);
+        }
+    }
+
+    /**
+     * Discards unwritten events, then closes and removes the journal, e.g. when its room is evicted.
+     */
+    synchronized void delete() {
+        synchronized (batchLock) {
+            batch.clear();
+            truncateRequested = false;
+        }
+        writing.clear().flip();
+        truncating = false;
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Unable to delete game journal {}", path, e);
+        }
+    }
+
+    /**
+     * Writes out the pending batch and closes the file. Appends from commands still running on the
+     * released game fail from now on rather than being lost.
+     */
+    @Override
+    public synchronized void close() {
+        synchronized (batchLock) {
+            closed = true;
+        }
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Unable to close game journal {}", path, e);
+        }
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() >= HEADER_BYTES) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.getInt() == MAGIC && header.getInt() == FORMAT) {
+                return;
+            }
+            channel.close();
+            moveAside("it does not match this build");
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        writeHeader();
+    }
+
+    /**
+     * Moves the journal out of the way and starts an empty one in its place.
+     */
+    private void setAside(String reason) throws IOException {
+        channel.close();
+        moveAside(reason);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writeHeader();
+    }
+
+    private void moveAside(String reason) throws IOException {
+        Path stale = path.resolveSibling(path.getFileName() + ".stale");
+        log.warn("Not replaying journal {} because {}; moving it to {}", path, reason, stale);
+        Files.move(path, stale, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeHeader() throws IOException {
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT)
+                .putLong(0)
+                .flip();
+        channel.write(header, 0);
+        channel.force(true);
+        channel.position(HEADER_BYTES);
+    }
+
+    /**
+     * Applies one record to the target. {@code dictionary} holds the dictionary selected by the last
+     * reset, which every other event needs.
+     *
+     * @return {@code false} when the record refers to a deck that is no longer available as written
+     */
+    private boolean dispatch(ByteBuffer record, GameJournal target, PhraseDictionary[] dictionary) {
+        byte type = record.get();
+        if (type == GAME_RESET) {
+            boolean dropPlayers = record.get() != 0;
+            String deck = getString(record);
+            PhraseDictionary current = decks.apply(deck);
+            if (current == null || current.checksum() != record.getLong()) {
+                return false;
+            }
+            int cardSize = record.get();
+            int types = record.getInt();
+            Set<ClaimType> played = EnumSet.noneOf(ClaimType.class);
+            for (ClaimType claimType : ClaimType.values()) {
+                if ((types & (1 << claimType.ordinal())) != 0) {
+                    played.add(claimType);
+                }
+            }
+            dictionary[0] = current;
+            target.gameReset(dropPlayers, deck, current, WinPatterns.of(cardSize, played));
+            return true;
+        }
+        if (dictionary[0] == null) {
+            return false;
+        }
+        switch (type) {
+            case PLAYER_REGISTERED -> target.playerRegistered(getUuid(record), getString(record), getInstant(record));
+            case CARD_ASSIGNED -> {
+                UUID playerId = getUuid(record);
+                String cardId = getString(record);
+                int size = record.get();
+                int[] cells = new int[size * size];
+                for (int cell = 0; cell < cells.length; cell++) {
+                    cells[cell] = record.getInt();
+                }
+                target.cardAssigned(playerId, new Scorecard(cardId, size, cells, dictionary[0]));
+            }
+            case CALL_ORDER_SHUFFLED -> {
+                int[] order = new int[record.getInt()];
+                for (int index = 0; index < order.length; index++) {
+                    order[index] = record.getInt();
+                }
+                target.callOrderShuffled(order);
+            }
+            case GAME_STARTED -> target.gameStarted(getInstant(record));
+            case PHRASE_DRAWN -> target.phraseDrawn(getInstant(record));
+            case PLAYER_EVICTED -> target.playerEvicted(getUuid(record));
+            case CLAIM_ACCEPTED -> target.claimAccepted(
+                    getUuid(record), ClaimType.values()[record.get()], getInstant(record));
+            default -> throw new IllegalStateException("Unknown journal record type " + type + " in " + path);
+        }
+        return true;
+    }
+
+    private void begin(byte type) {
+        buffer.clear();
+        buffer.position(RECORD_OVERHEAD);
+        buffer.put(type);
+    }
+
+    private void append() {
+        int end = buffer.position();
+        crc.reset();
+        crc.update(buffer.array(), RECORD_OVERHEAD, end - RECORD_OVERHEAD);
+        buffer.putInt(0, end - RECORD_OVERHEAD);
+        buffer.putInt(4, (int) crc.getValue());
+        buffer.flip();
+        synchronized (batchLock) {
+            if (closed) {
+                throw new IllegalStateException("The room was closed, please try again");
+            }
+            if (batch.remaining() < buffer.remaining()) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(batch.capacity() * 2, batch.position() + end));
+                larger.put(batch.flip());
+                batch = larger;
+            }
+            batch.put(buffer);
+        }
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    private void putUuid(UUID id) {
+        ensure(16);
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensure(4 + bytes.length);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private void putInstant(Instant instant) {
+        ensure(12);
+        buffer.putLong(instant.getEpochSecond()).putInt(instant.getNano());
+    }
+
+    private static UUID getUuid(ByteBuffer record) {
+        return new UUID(record.getLong(), record.getLong());
+    }
+
+    private static String getString(ByteBuffer record) {
+        byte[] bytes = new byte[record.getInt()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Instant getInstant(ByteBuffer record) {
+        return Instant.ofEpochSecond(record.getLong(), record.getInt());
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.PhraseDictionary;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Directory of room journals, one {@code <roomId>.journal} file per room, with a single background
+ * thread that writes and group-commits every room's pending batch once per flush interval.
+ * <p>
+ * Several instances on one host can share the directory: an instance holds an exclusive lock on
+ * {@code <roomId>.lock} for as long as it serves the room, and a room locked by another instance
+ * cannot be opened here. Releasing an evicted room writes out its journal and drops the lock, so
+ * the next instance to open the room rebuilds the same game.
+ */
+final class FileJournalStore implements GameStateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileJournalStore.class);
+
+    private static final String SUFFIX = ".journal";
+    private static final String LOCK_SUFFIX = ".lock";
+
+    private final Path directory;
+    private final Map<String, OpenRoom> open = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    FileJournalStore(Path directory, Duration flushInterval) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create journal directory " + directory, e);
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bingo-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMicros = Math.max(1, flushInterval.toNanos() / 1_000);
+        flusher.scheduleWithFixedDelay(this::flushAll, intervalMicros, intervalMicros, TimeUnit.MICROSECONDS);
+    }
+
+    @Override
+    public GameJournal open(String roomId, Function<String, PhraseDictionary> decks) {
+        return open.computeIfAbsent(roomId, id -> {
+            FileLock lock = lock(id);
+            try {
+                return new OpenRoom(new FileGameJournal(directory.resolve(id + SUFFIX), decks), lock);
+            } catch (RuntimeException e) {
+                release(lock);
+                throw e;
+            }
+        }).journal;
+    }
+
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+
+    @Override
+    public void release(String roomId) {
+        OpenRoom room = open.remove(roomId);
+        if (room != null) {
+            room.journal.close();
+            release(room.lock);
+        }
+    }
+
+    @Override
+    public void delete(String roomId) {
+        OpenRoom room = open.remove(roomId);
+        if (room != null) {
+            room.journal.delete();
+            release(room.lock);
+        }
+    }
+
+    void flushAll() {
+        open.values().forEach(room -> room.journal.flush());
+    }
+
+    @Override
+    public void close() {
+        // Not interrupted: an interrupt during a write would close the journal's channel.
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        open.values().forEach(room -> {
+            room.journal.close();
+            release(room.lock);
+        });
+        open.clear();
+    }
+
+    private FileLock lock(String roomId) {
+        Path file = directory.resolve(roomId + LOCK_SUFFIX);
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // Held by another store in this process.
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to lock room " + roomId + " in " + directory, e);
+        }
+        closeQuietly(channel);
+        throw new IllegalStateException("Room " + roomId + " is being served by another instance");
+    }
+
+    /**
+     * Releases the room's lock. Lock files are never deleted: an instance waiting on the old file
+     * would otherwise hold a lock nobody else can see.
+     */
+    private static void release(FileLock lock) {
+        closeQuietly(lock.channel());
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Unable to close room lock", e);
+        }
+    }
+
+    private static final class OpenRoom {
+        private final FileGameJournal journal;
+        private final FileLock lock;
+
+        private OpenRoom(FileGameJournal journal, FileLock lock) {
+            this.journal = journal;
+            this.lock = lock;
+        }
+    }
+}
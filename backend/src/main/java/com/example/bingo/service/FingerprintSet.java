@@ -0,0 +1,134 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.Scorecard;
+
+/**
+ * Open-addressing hash set of 128-bit scorecard fingerprints stored in two parallel {@code long}
+ * arrays, so membership checks allocate nothing. Uses linear probing with backward-shift deletion.
+ * The all-zero fingerprint marks an empty slot and is tracked separately. Not thread-safe.
+ */
+final class FingerprintSet {
+
+    private static final int MIN_CAPACITY = 64;
+
+    private long[] highs;
+    private long[] lows;
+    private int size;
+    private boolean containsZero;
+
+    FingerprintSet() {
+        allocate(MIN_CAPACITY);
+    }
+
+    boolean add(Scorecard card) {
+        return add(card.fingerprintHigh(), card.fingerprintLow());
+    }
+
+    boolean remove(Scorecard card) {
+        return remove(card.fingerprintHigh(), card.fingerprintLow());
+    }
+
+    boolean contains(Scorecard card) {
+        long high = card.fingerprintHigh();
+        long low = card.fingerprintLow();
+        if (high == 0 && low == 0) {
+            return containsZero;
+        }
+        return indexOf(high, low) >= 0;
+    }
+
+    int size() {
+        return size + (containsZero ? 1 : 0);
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+        containsZero = false;
+    }
+
+    boolean add(long high, long low) {
+        if (high == 0 && low == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        int mask = highs.length - 1;
+        int slot = slot(high, low, mask);
+        while (highs[slot] != 0 || lows[slot] != 0) {
+            if (highs[slot] == high && lows[slot] == low) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        highs[slot] = high;
+        lows[slot] = low;
+        if (++size * 2 > highs.length) {
+            resize(highs.length * 2);
+        }
+        return true;
+    }
+
+    boolean remove(long high, long low) {
+        if (high == 0 && low == 0) {
+            boolean removed = containsZero;
+            containsZero = false;
+            return removed;
+        }
+        int slot = indexOf(high, low);
+        if (slot < 0) {
+            return false;
+        }
+        int mask = highs.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (highs[next] != 0 || lows[next] != 0) {
+            int home = slot(highs[next], lows[next], mask);
+            // Move the entry back into the gap unless its home lies cyclically within (gap, next].
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                highs[gap] = highs[next];
+                lows[gap] = lows[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        highs[gap] = 0;
+        lows[gap] = 0;
+        size--;
+        return true;
+    }
+
+    private int indexOf(long high, long low) {
+        int mask = highs.length - 1;
+        int slot = slot(high, low, mask);
+        while (highs[slot] != 0 || lows[slot] != 0) {
+            if (highs[slot] == high && lows[slot] == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        allocate(capacity);
+        size = 0;
+        for (int index = 0; index < oldHighs.length; index++) {
+            if (oldHighs[index] != 0 || oldLows[index] != 0) {
+                add(oldHighs[index], oldLows[index]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        highs = new long[capacity];
+        lows = new long[capacity];
+    }
+
+    private static int slot(long high, long low, int mask) {
+        long hash = high ^ Long.rotateLeft(low, 32);
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
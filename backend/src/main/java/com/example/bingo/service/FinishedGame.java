@@ -0,0 +1,58 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.Winner;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable record of a game that ended, either by completing or by being reset while in
+ * progress, handed to the {@link GameArchive}.
+ */
+public final class FinishedGame {
+
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final boolean completed;
+    private final int playerCount;
+    private final List<String> calledPhrases;
+    private final List<Winner> winners;
+
+    FinishedGame(
+            Instant startedAt,
+            Instant finishedAt,
+            boolean completed,
+            int playerCount,
+            List<String> calledPhrases,
+            List<Winner> winners) {
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.completed = completed;
+        this.playerCount = playerCount;
+        this.calledPhrases = calledPhrases;
+        this.winners = winners;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public List<String> getCalledPhrases() {
+        return calledPhrases;
+    }
+
+    public List<Winner> getWinners() {
+        return winners;
+    }
+}
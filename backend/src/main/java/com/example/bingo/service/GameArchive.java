@@ -0,0 +1,13 @@
+package com.example.bingo.service;
+
+/**
+ * Destination for games that have ended. Called from inside the game's commands, so
+ * implementations must hand the work off rather than block.
+ */
+public interface GameArchive {
+
+    /** Archive that keeps nothing. */
+    GameArchive NONE = (roomId, game) -> { };
+
+    void archive(String roomId, FinishedGame game);
+}
@@ -0,0 +1,44 @@
+package com.example.bingo.service;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Serializes the mutations of one game. Reads never go through it; they use the published snapshot.
+ */
+public interface GameCommandExecutor {
+
+    /**
+     * Runs the command exclusively with respect to every other command of the same game and returns
+     * its result, rethrowing any runtime exception it raised. The time spent waiting for the game and
+     * running the command is reported under {@code operation}.
+     */
+    <T> T execute(String operation, Supplier<T> command);
+
+    default <T> T execute(Supplier<T> command) {
+        return execute("command", command);
+    }
+
+    /**
+     * Commands run on the calling thread while holding a per-game lock.
+     */
+    static GameCommandExecutor locking() {
+        return locking(GameMetrics.NONE);
+    }
+
+    static GameCommandExecutor locking(GameMetrics metrics) {
+        return new LockingCommandExecutor(metrics);
+    }
+
+    /**
+     * Commands are queued and applied one at a time by a single writer borrowed from {@code pool};
+     * callers wait for their own command only.
+     */
+    static GameCommandExecutor serial(Executor pool) {
+        return serial(pool, GameMetrics.NONE);
+    }
+
+    static GameCommandExecutor serial(Executor pool, GameMetrics metrics) {
+        return new SerialCommandExecutor(pool, metrics);
+    }
+}
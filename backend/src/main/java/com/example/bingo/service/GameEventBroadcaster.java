@@ -0,0 +1,130 @@
+package com.example.bingo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes game state changes of one room to its Server-Sent Events subscribers.
+ * <p>
+ * {@link #publish} only parks the latest snapshot and is safe to call while holding the room lock.
+ * Fan-out runs on the shared executor: bursts of changes are coalesced into the newest snapshot,
+ * whose cached JSON is written as the same event bytes to every subscriber. A subscriber is never
+ * sent a state older than one it already has.
+ */
+public class GameEventBroadcaster {
+
+    static final String STATE_EVENT = "state";
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicReference<GameStateSnapshot> pending = new AtomicReference<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final long subscriberTimeoutMillis;
+
+    public GameEventBroadcaster(ObjectMapper objectMapper, Executor executor, long subscriberTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.subscriberTimeoutMillis = subscriberTimeoutMillis;
+    }
+
+    /**
+     * Registers a subscriber, then reads the current state and sends it. Reading only once the
+     * subscriber is registered means a change published in between is fanned out to it as well.
+     */
+    public SseEmitter subscribe(Supplier<GameStateSnapshot> current) {
+        SseEmitter emitter = new SseEmitter(subscriberTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        GameStateSnapshot state = current.get();
+        send(subscriber, state.getVersion(), toEvent(state));
+        return emitter;
+    }
+
+    public void publish(GameStateSnapshot state) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        pending.set(state);
+        if (flushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void flush() {
+        while (true) {
+            GameStateSnapshot state = pending.getAndSet(null);
+            if (state == null) {
+                flushScheduled.set(false);
+                // A publish may have slipped in after the swap but before the flag was cleared.
+                if (pending.get() == null || !flushScheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            Set<DataWithMediaType> event = toEvent(state);
+            for (Subscriber subscriber : subscribers) {
+                send(subscriber, state.getVersion(), event);
+            }
+        }
+    }
+
+    /**
+     * Sends the event unless the subscriber already has this or a later version, which happens when
+     * a fan-out that started before it subscribed reaches it after its first state.
+     */
+    private void send(Subscriber subscriber, long version, Set<DataWithMediaType> event) {
+        synchronized (subscriber) {
+            if (version <= subscriber.sentVersion) {
+                return;
+            }
+            try {
+                subscriber.emitter.send(event);
+                subscriber.sentVersion = version;
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private Set<DataWithMediaType> toEvent(GameStateSnapshot state) {
+        return SseEmitter.event()
+                .id(Long.toString(state.getVersion()))
+                .name(STATE_EVENT)
+                .data(state.toJson(objectMapper), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private static final class Subscriber {
+
+        final SseEmitter emitter;
+        long sentVersion = Long.MIN_VALUE;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.bingo.service;
+
+import com.example.bingo.dto.ArchivedGameResponse;
+import com.example.bingo.dto.ArchivedWinResponse;
+import com.example.bingo.dto.LeaderboardEntryResponse;
+import com.example.bingo.dto.PlayerHistoryResponse;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.Winner;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Archive of finished games in the embedded database, with leaderboards and player history.
+ * <p>
+ * Games are written on a single background thread so archiving never delays a game command. Each
+ * archived game merges its winners into the {@code leaderboard} aggregates in the same transaction,
+ * so reads are index range scans over precomputed rows and never aggregate raw winners. Players get
+ * a new id every game, so history is keyed by the case-insensitive display name.
+ */
+@Service
+public class GameHistoryService implements GameArchive {
+
+    static final String ANY_CLAIM = "ANY";
+
+    private static final Logger log = LoggerFactory.getLogger(GameHistoryService.class);
+    private static final int MAX_LIMIT = 100;
+
+    private static final String MERGE_LEADERBOARD = """
+            MERGE INTO leaderboard AS t
+            USING (VALUES (CAST(? AS VARCHAR(100)), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(100)),
+                           CAST(? AS INT), CAST(? AS TIMESTAMP(3) WITH TIME ZONE)))
+                AS s (player_key, claim_type, display_name, draw_count, won_at)
+            ON t.player_key = s.player_key AND t.claim_type = s.claim_type
+            WHEN MATCHED THEN UPDATE SET
+                display_name = s.display_name,
+                wins = t.wins + 1,
+                total_draw_count = t.total_draw_count + s.draw_count,
+                best_draw_count = LEAST(t.best_draw_count, s.draw_count),
+                last_won_at = GREATEST(t.last_won_at, s.won_at)
+            WHEN NOT MATCHED THEN INSERT
+                (player_key, claim_type, display_name, wins, total_draw_count, best_draw_count, last_won_at)
+                VALUES (s.player_key, s.claim_type, s.display_name, 1, s.draw_count, s.draw_count, s.won_at)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactions;
+    private final ExecutorService writer;
+
+    @Autowired
+    public GameHistoryService(JdbcTemplate jdbc, TransactionTemplate transactions) {
+        this(jdbc, transactions, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bingo-history");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    GameHistoryService(JdbcTemplate jdbc, TransactionTemplate transactions, ExecutorService writer) {
+        this.jdbc = jdbc;
+        this.transactions = transactions;
+        this.writer = writer;
+    }
+
+    @Override
+    public void archive(String roomId, FinishedGame game) {
+        writer.execute(() -> {
+            try {
+                transactions.executeWithoutResult(status -> store(roomId, game));
+            } catch (RuntimeException e) {
+                log.warn("Unable to archive game of room {}", roomId, e);
+            }
+        });
+    }
+
+    /**
+     * @param type a claim type, or {@code null} for total wins across all types
+     */
+    public List<LeaderboardEntryResponse> leaderboard(ClaimType type, int limit) {
+        return jdbc.query("""
+                        SELECT * FROM leaderboard
+                        WHERE claim_type = ?
+                        ORDER BY wins DESC, best_draw_count
+                        LIMIT ?""",
+                GameHistoryService::toEntry,
+                type == null ? ANY_CLAIM : type.name(),
+                clamp(limit));
+    }
+
+    public PlayerHistoryResponse playerHistory(String displayName, int limit) {
+        String key = playerKey(displayName);
+        List<LeaderboardEntryResponse> totals = jdbc.query(
+                "SELECT * FROM leaderboard WHERE player_key = ? ORDER BY claim_type",
+                GameHistoryService::toEntry,
+                key);
+        if (totals.isEmpty()) {
+            throw new IllegalArgumentException("No recorded wins for " + displayName.trim());
+        }
+        List<ArchivedWinResponse> recentWins = jdbc.query("""
+                        SELECT w.game_id, g.room_id, w.claim_type, w.draw_count, w.won_at
+                        FROM game_winner w JOIN game g ON g.id = w.game_id
+                        WHERE w.player_key = ?
+                        ORDER BY w.game_id DESC, w.seq DESC
+                        LIMIT ?""",
+                (rs, row) -> new ArchivedWinResponse(
+                        rs.getLong("game_id"),
+                        rs.getString("room_id"),
+                        ClaimType.valueOf(rs.getString("claim_type")),
+                        rs.getInt("draw_count"),
+                        instant(rs, "won_at")),
+                key,
+                clamp(limit));
+        String name = totals.stream()
+                .filter(entry -> ANY_CLAIM.equals(entry.getClaimType()))
+                .findFirst()
+                .map(LeaderboardEntryResponse::getDisplayName)
+                .orElse(displayName.trim());
+        return new PlayerHistoryResponse(name, totals, recentWins);
+    }
+
+    /**
+     * Lists the most recent games, newest first, without their calls and winners.
+     */
+    public List<ArchivedGameResponse> recentGames(int limit) {
+        return jdbc.query(
+                "SELECT * FROM game ORDER BY id DESC LIMIT ?",
+                (rs, row) -> toGame(rs, List.of(), List.of()),
+                clamp(limit));
+    }
+
+    public ArchivedGameResponse game(long gameId) {
+        List<String> calls = jdbc.queryForList(
+                "SELECT phrase FROM game_call WHERE game_id = ? ORDER BY seq", String.class, gameId);
+        List<Winner> winners = jdbc.query(
+                "SELECT * FROM game_winner WHERE game_id = ? ORDER BY seq",
+                (rs, row) -> new Winner(
+                        rs.getObject("player_id", UUID.class),
+                        rs.getString("display_name"),
+                        ClaimType.valueOf(rs.getString("claim_type")),
+                        rs.getInt("draw_count"),
+                        instant(rs, "won_at")),
+                gameId);
+        return jdbc.query("SELECT * FROM game WHERE id = ?", (rs, row) -> toGame(rs, calls, winners), gameId)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown game id"));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Game history writer did not finish archiving before shutdown");
+        }
+    }
+
+    private void store(String roomId, FinishedGame game) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.update(connection -> {
+            PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO game (room_id, started_at, finished_at, completed, player_count, call_count, winner_count)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)""", Statement.RETURN_GENERATED_KEYS);
+            insert.setString(1, roomId);
+            insert.setObject(2, offset(game.getStartedAt()));
+            insert.setObject(3, offset(game.getFinishedAt()));
+            insert.setBoolean(4, game.isCompleted());
+            insert.setInt(5, game.getPlayerCount());
+            insert.setInt(6, game.getCalledPhrases().size());
+            insert.setInt(7, game.getWinners().size());
+            return insert;
+        }, keys);
+        long gameId = Objects.requireNonNull(keys.getKey(), "generated game id").longValue();
+
+        List<String> calls = game.getCalledPhrases();
+        List<Object[]> callRows = new ArrayList<>(calls.size());
+        for (int seq = 0; seq < calls.size(); seq++) {
+            callRows.add(new Object[] {gameId, seq, calls.get(seq)});
+        }
+        jdbc.batchUpdate("INSERT INTO game_call (game_id, seq, phrase) VALUES (?, ?, ?)", callRows);
+
+        List<Winner> winners = game.getWinners();
+        List<Object[]> winnerRows = new ArrayList<>(winners.size());
+        List<Object[]> leaderboardRows = new ArrayList<>(winners.size() * 2);
+        for (int seq = 0; seq < winners.size(); seq++) {
+            Winner winner = winners.get(seq);
+            String key = playerKey(winner.getDisplayName());
+            OffsetDateTime wonAt = offset(winner.getTimestamp());
+            winnerRows.add(new Object[] {
+                    gameId, seq, winner.getPlayerId(), key, winner.getDisplayName(),
+                    winner.getClaimType().name(), winner.getDrawCount(), wonAt});
+            leaderboardRows.add(new Object[] {
+                    key, winner.getClaimType().name(), winner.getDisplayName(), winner.getDrawCount(), wonAt});
+            leaderboardRows.add(new Object[] {
+                    key, ANY_CLAIM, winner.getDisplayName(), winner.getDrawCount(), wonAt});
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO game_winner
+                    (game_id, seq, player_id, player_key, display_name, claim_type, draw_count, won_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)""", winnerRows);
+        jdbc.batchUpdate(MERGE_LEADERBOARD, leaderboardRows);
+    }
+
+    private static LeaderboardEntryResponse toEntry(ResultSet rs, int row) throws SQLException {
+        long wins = rs.getLong("wins");
+        return new LeaderboardEntryResponse(
+                rs.getString("display_name"),
+                rs.getString("claim_type"),
+                wins,
+                rs.getInt("best_draw_count"),
+                (double) rs.getLong("total_draw_count") / wins,
+                instant(rs, "last_won_at"));
+    }
+
+    private static ArchivedGameResponse toGame(ResultSet rs, List<String> calls, List<Winner> winners)
+            throws SQLException {
+        return new ArchivedGameResponse(
+                rs.getLong("id"),
+                rs.getString("room_id"),
+                instant(rs, "started_at"),
+                instant(rs, "finished_at"),
+                rs.getBoolean("completed"),
+                rs.getInt("player_count"),
+                rs.getInt("call_count"),
+                calls,
+                winners);
+    }
+
+    static String playerKey(String displayName) {
+        return displayName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int clamp(int limit) {
+        return Math.min(Math.max(1, limit), MAX_LIMIT);
+    }
+
+    private static OffsetDateTime offset(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.Scorecard;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Durable record of the events behind a game's mutations. Everything random or time-dependent is
+ * part of an event, so feeding the recorded events back through {@link GameService} rebuilds the
+ * same game. Events are written from inside the game's commands, before the state changes, and
+ * must be cheap; every method defaults to a no-op.
+ */
+public interface GameJournal extends AutoCloseable {
+
+    /** Journal that records nothing. */
+    GameJournal NONE = new GameJournal() {
+    };
+
+    default void playerRegistered(UUID playerId, String displayName, Instant joinedAt) {
+    }
+
+    default void cardAssigned(UUID playerId, Scorecard card) {
+    }
+
+    default void playerEvicted(UUID playerId) {
+    }
+
+    /**
+     * @param deck       the deck the next game is played with
+     * @param dictionary the version of that deck; cards and call orders that follow are phrase ids
+     *                   into it
+     * @param patterns   the card size and win patterns of the next game
+     */
+    default void gameReset(boolean dropPlayers, String deck, PhraseDictionary dictionary, WinPatterns patterns) {
+    }
+
+    default void callOrderShuffled(int[] callOrder) {
+    }
+
+    default void gameStarted(Instant startedAt) {
+    }
+
+    default void phraseDrawn(Instant drawnAt) {
+    }
+
+    default void claimAccepted(UUID playerId, ClaimType type, Instant acceptedAt) {
+    }
+
+    /**
+     * Feeds every recorded event, in order, to {@code target}.
+     *
+     * @return whether any event was recorded
+     */
+    default boolean replay(GameJournal target) {
+        return false;
+    }
+
+    @Override
+    default void close() {
+    }
+}
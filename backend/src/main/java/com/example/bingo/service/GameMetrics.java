@@ -0,0 +1,53 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimType;
+
+/**
+ * Receives measurements from the game engine. Called on the hot path of every command, so
+ * implementations must be cheap and must not block.
+ */
+public interface GameMetrics {
+
+    /** Metrics that are discarded. */
+    GameMetrics NONE = new GameMetrics() { };
+
+    /**
+     * Why a claim was accepted or rejected.
+     */
+    enum ClaimOutcome {
+        ACCEPTED,
+        NO_SCORECARD,
+        INCOMPLETE,
+        DUPLICATE,
+        LIMIT_REACHED,
+        RATE_LIMITED
+    }
+
+    /**
+     * @param waitNanos time spent waiting for the game's lock or writer
+     * @param holdNanos time spent running the command while holding it
+     */
+    default void commandCompleted(String operation, long waitNanos, long holdNanos) {
+    }
+
+    /**
+     * A game operation that does not go through the command executor, such as a preview.
+     */
+    default void operationCompleted(String operation, long nanos) {
+    }
+
+    default void claimEvaluated(ClaimType type, ClaimOutcome outcome) {
+    }
+
+    default void playersEvicted(int count) {
+    }
+
+    /**
+     * Starts reporting the gauges of one room.
+     *
+     * @return stops reporting them once the room is evicted
+     */
+    default Runnable monitorRoom(String roomId, GameService game) {
+        return () -> { };
+    }
+}
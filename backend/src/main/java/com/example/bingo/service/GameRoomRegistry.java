@@ -0,0 +1,212 @@
+package com.example.bingo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Registry of independent game rooms. Rooms are created on first use, each with its own
+ * {@link GameService} and therefore its own lock, and are evicted once idle for longer than
+ * {@code bingo.rooms.idle-timeout}. The {@value #DEFAULT_ROOM} room backs the legacy
+ * {@code /api/game} routes.
+ * <p>
+ * A room's live state is its {@link GameService}, held in this instance's memory; the
+ * {@link GameStateStore} only keeps what is needed to rebuild it, so instances are not stateless.
+ * With {@code bingo.journal.enabled} every room, the default one included, journals its events to
+ * disk and is rebuilt from its journal when it is next used, here or by another instance sharing
+ * the journal directory. A room is served by one instance at a time: the first to use it, while the
+ * others answer 409 until it has been idle long enough to be evicted and handed over. Without a
+ * durable store the default room is opened at startup and never evicted.
+ */
+@Service
+public class GameRoomRegistry {
+
+    public static final String DEFAULT_ROOM = "default";
+
+    private static final Logger log = LoggerFactory.getLogger(GameRoomRegistry.class);
+    private static final Pattern ROOM_ID = Pattern.compile("[A-Za-z0-9_-]{1,40}");
+
+    private final ConcurrentMap<String, Room> rooms = new ConcurrentHashMap<>();
+    private final KeywordRepository keywordRepository;
+    private final ObjectMapper objectMapper;
+    private final GameSettings settings;
+    private final GameArchive archive;
+    private final GameMetrics metrics;
+    private final ExecutorService fanoutExecutor;
+    private final ExecutorService writerPool;
+    private final ExecutorService cardProducer;
+    private final ScheduledExecutorService callerScheduler;
+    private final GameStateStore store;
+
+    public GameRoomRegistry(
+            KeywordRepository keywordRepository,
+            ObjectMapper objectMapper,
+            GameSettings settings,
+            GameArchive archive,
+            GameMetrics metrics) {
+        this.keywordRepository = keywordRepository;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.archive = archive;
+        this.metrics = metrics;
+        this.fanoutExecutor = Executors.newFixedThreadPool(
+                settings.getEvents().getFanoutThreads(), daemonThreads("bingo-events-"));
+        this.writerPool = Executors.newFixedThreadPool(
+                settings.getRooms().getWriterThreads(), daemonThreads("bingo-writer-"));
+        this.cardProducer = Executors.newFixedThreadPool(
+                settings.getCardPool().getProducerThreads(), daemonThreads("bingo-cards-"));
+        this.callerScheduler = Executors.newScheduledThreadPool(
+                settings.getCaller().getThreads(), daemonThreads("bingo-caller-"));
+        this.store = settings.getJournal().isEnabled()
+                ? new FileJournalStore(settings.getJournal().getDirectory(), settings.getJournal().getFlushInterval())
+                : GameStateStore.IN_MEMORY;
+        if (!store.isDurable()) {
+            // Kept for good, since its game could not be rebuilt; with a durable store it is opened on
+            // first use like any other room, so no instance claims it just by starting.
+            room(DEFAULT_ROOM);
+        }
+    }
+
+    /**
+     * Returns the game for the room, creating it on first use; a {@code null} id selects the default room.
+     */
+    public GameService room(String roomId) {
+        return lookup(roomId).game;
+    }
+
+    /**
+     * Opens a Server-Sent Events stream of the room's state, starting with the current state.
+     */
+    public SseEmitter subscribe(String roomId) {
+        Room room = lookup(roomId);
+        return room.broadcaster.subscribe(room.game::currentSnapshot);
+    }
+
+    /**
+     * Returns the room's server-side caller.
+     */
+    public AutoCaller caller(String roomId) {
+        return lookup(roomId).caller;
+    }
+
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    @Scheduled(fixedDelayString = "${bingo.rooms.sweep-interval:PT1M}")
+    public void evictIdleRooms() {
+        long now = System.nanoTime();
+        long idleTimeoutNanos = settings.getRooms().getIdleTimeout().toNanos();
+        rooms.entrySet().removeIf(entry -> {
+            Room room = entry.getValue();
+            boolean idle = (store.isDurable() || !DEFAULT_ROOM.equals(entry.getKey()))
+                    && !room.caller.isRunning()
+                    && now - room.lastAccessNanos > idleTimeoutNanos;
+            if (idle) {
+                log.info("Evicting idle room {}", entry.getKey());
+                room.caller.stop();
+                room.broadcaster.close();
+                room.stopMonitoring.run();
+                store.release(entry.getKey());
+            }
+            return idle;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${bingo.players.sweep-interval:PT1M}")
+    public void evictIdlePlayers() {
+        rooms.forEach((roomId, room) -> {
+            int evicted = room.game.evictIdlePlayers();
+            if (evicted > 0) {
+                log.info("Evicted {} idle players from room {}", evicted, roomId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rooms.values().forEach(room -> room.broadcaster.close());
+        callerScheduler.shutdownNow();
+        fanoutExecutor.shutdownNow();
+        writerPool.shutdown();
+        cardProducer.shutdownNow();
+        store.close();
+    }
+
+    private Room lookup(String roomId) {
+        String id = roomId == null ? DEFAULT_ROOM : roomId;
+        Room room = rooms.get(id);
+        if (room == null) {
+            if (!ROOM_ID.matcher(id).matches()) {
+                throw new IllegalArgumentException("Room id must be 1-40 letters, digits, '-' or '_'");
+            }
+            if (rooms.size() >= settings.getRooms().getMax()) {
+                throw new IllegalStateException("Too many active rooms, try again later");
+            }
+            room = rooms.computeIfAbsent(id, this::createRoom);
+        }
+        room.lastAccessNanos = System.nanoTime();
+        return room;
+    }
+
+    private Room createRoom(String roomId) {
+        GameEventBroadcaster broadcaster = new GameEventBroadcaster(
+                objectMapper, fanoutExecutor, settings.getEvents().getSubscriberTimeout().toMillis());
+        GameCommandExecutor commands = settings.getConcurrency() == GameSettings.ConcurrencyMode.SINGLE_WRITER
+                ? GameCommandExecutor.serial(writerPool, metrics)
+                : GameCommandExecutor.locking(metrics);
+        GameJournal journal = store.open(roomId, keywordRepository::findDictionary);
+        GameService game = new GameService(
+                keywordRepository,
+                settings,
+                commands,
+                journal,
+                metrics,
+                cardProducer,
+                broadcaster::publish,
+                finished -> archive.archive(roomId, finished));
+        game.boot();
+        AutoCaller caller = new AutoCaller(
+                game,
+                callerScheduler,
+                settings.getCaller().getDefaultInterval(),
+                settings.getCaller().getMinInterval());
+        return new Room(game, broadcaster, caller, metrics.monitorRoom(roomId, game));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Room {
+        private final GameService game;
+        private final GameEventBroadcaster broadcaster;
+        private final AutoCaller caller;
+        private final Runnable stopMonitoring;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private Room(GameService game, GameEventBroadcaster broadcaster, AutoCaller caller, Runnable stopMonitoring) {
+            this.game = game;
+            this.broadcaster = broadcaster;
+            this.caller = caller;
+            this.stopMonitoring = stopMonitoring;
+        }
+    }
+}
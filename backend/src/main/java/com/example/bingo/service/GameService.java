@@ -1,280 +1,819 @@
 package com.example.bingo.service;
 
+import com.example.bingo.dto.DrawNumberResponse;
+import com.example.bingo.dto.GameStateDeltaResponse;
 import com.example.bingo.dto.GameStateResponse;
+import com.example.bingo.dto.PacingForecastResponse;
 import com.example.bingo.model.ClaimEvaluation;
 import com.example.bingo.model.ClaimType;
 import com.example.bingo.model.GameStatus;
+import com.example.bingo.model.PhraseDictionary;
 import com.example.bingo.model.PlayerState;
 import com.example.bingo.model.Scorecard;
 import com.example.bingo.model.Winner;
-import jakarta.annotation.PostConstruct;
 import java.security.SecureRandom;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import org.springframework.stereotype.Service;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import org.springframework.util.StringUtils;
 
-@Service
+/**
+ * Engine for a single Bingo game. Each room owns one instance. Mutations run as commands on the
+ * game's {@link GameCommandExecutor}, so games in different rooms never contend with each other,
+ * while reads are served from the last published snapshot and never wait for a writer.
+ * <p>
+ * Every command validates, makes its random or time-dependent decisions, records them in the
+ * {@link GameJournal} and only then applies them, so {@link #boot()} can rebuild a game by applying
+ * the journaled events again.
+ */
 public class GameService {
 
-    private static final int SCORECARD_POOL_TARGET = 20;
     private static final int MAX_FULL_CARD_WINNERS = 3;
+    private static final String DUPLICATE_CLAIM = "Claim already recorded";
+    private static final ClaimType[] CLAIM_TYPES = ClaimType.values();
 
     private final SecureRandom random = new SecureRandom();
     private final KeywordRepository keywordRepository;
+    private final boolean autoAdjudicate;
+    private final long playerIdleNanos;
+    private final int maxPlayers;
+    private final int forecastTrials;
+    private final int maxForecastTrials;
+    private final GameCommandExecutor commands;
+    private final GameJournal journal;
+    private final GameMetrics metrics;
+    private final Consumer<GameStateSnapshot> stateListener;
+    private final Consumer<FinishedGame> archive;
     private final Map<UUID, PlayerState> players = new ConcurrentHashMap<>();
-    private final Map<String, Scorecard> cardPool = new LinkedHashMap<>();
-    private final Set<String> assignedCardFingerprints = new LinkedHashSet<>();
-    private final LinkedHashSet<String> calledPhrases = new LinkedHashSet<>();
-    private final Deque<String> callQueue = new ArrayDeque<>();
-    private final List<Winner> winners = new ArrayList<>();
+    private final ScorecardPool cardPool;
+    private final AppendOnlyLog<String> calledPhrases = new AppendOnlyLog<>();
+    private final BitSet calledPhraseIds = new BitSet();
+    private final AppendOnlyLog<Winner> winners = new AppendOnlyLog<>();
+    private final Map<UUID, Integer> awardedTypes = new HashMap<>();
+    private final int[] winnersByType = new int[CLAIM_TYPES.length];
+    private final ClaimTracker claimTracker;
 
     private GameStatus status = GameStatus.WAITING_FOR_HOST;
+    private String deck = KeywordRepository.DEFAULT_DECK;
+    private volatile PhraseDictionary dictionary;
+    private volatile WinPatterns patterns;
     private String currentCall;
+    private int[] callOrder = new int[0];
+    private int nextCall;
     private Instant startedAt;
+    private CardIndex cardIndex;
+    private int registeredCount;
+    private long lastPlayedNanos = System.nanoTime();
+    private boolean archived;
+    private long version = initialVersion();
+    private long resetVersion;
+    private long[] callVersions = new long[0];
+    private long[] winnerVersions = new long[16];
+    private volatile GameStateSnapshot published;
+    private volatile PacingForecastResponse lastForecast;
 
-    public GameService(KeywordRepository keywordRepository) {
+    /**
+     * @param commands      serializes every mutation of this game
+     * @param journal       records the events of this game and replays them on {@link #boot()}
+     * @param metrics       receives the claim outcomes and preview timings of this game
+     * @param cardProducer  runs the background refills of the scorecard pool
+     * @param stateListener notified with the new state after every start, reset, draw and accepted claim,
+     *                      from within the mutating command; it must hand off any slow work
+     * @param archive       receives every game that completes, or that is reset while in progress
+     *                      after its first call; also invoked from within the command
+     */
+    public GameService(
+            KeywordRepository keywordRepository,
+            GameSettings settings,
+            GameCommandExecutor commands,
+            GameJournal journal,
+            GameMetrics metrics,
+            Executor cardProducer,
+            Consumer<GameStateSnapshot> stateListener,
+            Consumer<FinishedGame> archive) {
         this.keywordRepository = keywordRepository;
+        this.autoAdjudicate = settings.isAutoAdjudicate();
+        this.playerIdleNanos = settings.getPlayers().getIdleTimeout().toNanos();
+        this.maxPlayers = settings.getPlayers().getMax();
+        this.forecastTrials = settings.getForecast().getTrials();
+        this.maxForecastTrials = settings.getForecast().getMaxTrials();
+        this.claimTracker = new ClaimTracker(settings.getClaims().getInterval(), settings.getClaims().getBurst());
+        this.patterns = WinPatterns.of(settings.getCard().getSize(), settings.getCard().getPatterns());
+        this.commands = commands;
+        this.journal = journal;
+        this.metrics = metrics;
+        this.cardPool = new ScorecardPool(
+                this::dictionary,
+                () -> patterns.getCardSize(),
+                cardProducer,
+                settings.getCardPool().getLowWatermark(),
+                settings.getCardPool().getHighWatermark(),
+                settings.getCardPool().getLeaseDuration());
+        this.stateListener = stateListener;
+        this.archive = archive;
     }
 
-    @PostConstruct
+    /**
+     * Rebuilds the game from its journal, or starts a fresh one when nothing was recorded.
+     */
     public void boot() {
-        resetGame(true);
+        boolean recovered = commands.execute("boot", () -> {
+            if (!journal.replay(new Replay())) {
+                // Whatever was replayed before the journal was set aside is not a game to archive.
+                status = GameStatus.WAITING_FOR_HOST;
+                return false;
+            }
+            archived = status == GameStatus.COMPLETE;
+            publish();
+            return true;
+        });
+        if (!recovered) {
+            resetGame(true);
+        }
     }
 
-    public synchronized PlayerState registerPlayer(String requestedName) {
-        String displayName = StringUtils.hasText(requestedName)
-                ? requestedName.trim()
-                : "Player-" + (players.size() + 1);
-        PlayerState player = new PlayerState(UUID.randomUUID(), displayName, Instant.now());
-        players.put(player.getId(), player);
-        return player;
+    public PlayerState registerPlayer(String requestedName) {
+        return commands.execute("register", () -> {
+            ensureRoomFor(1);
+            String displayName = StringUtils.hasText(requestedName)
+                    ? requestedName.trim()
+                    : "Player-" + (registeredCount + 1);
+            UUID playerId = UUID.randomUUID();
+            Instant joinedAt = Instant.now();
+            journal.playerRegistered(playerId, displayName, joinedAt);
+            PlayerState player = applyPlayerRegistered(playerId, displayName, joinedAt);
+            refreshSnapshot();
+            return player;
+        });
+    }
+
+    /**
+     * Registers the players and gives each a unique scorecard as one command. Cards are taken from
+     * the pool, and any shortfall is built in bulk, before the command runs, so the game is only
+     * blocked for the bookkeeping. Blank names get the usual {@code Player-N} default. Cards taken
+     * before a reset are dropped and taken again for the new game, even when it kept the deck and
+     * card size, since the reset also forgot which cards were in use.
+     */
+    public List<PlayerState> registerPlayersWithCards(List<String> requestedNames) {
+        while (true) {
+            long generation = cardPool.generation();
+            List<Scorecard> cards = cardPool.takeMany(requestedNames.size(), generation);
+            List<PlayerState> registered = cards == null ? null : registerWithCards(requestedNames, cards, generation);
+            if (registered != null) {
+                return registered;
+            }
+        }
     }
 
-    public synchronized PlayerState getPlayer(UUID playerId) {
-        return Optional.ofNullable(players.get(playerId))
+    /**
+     * @return the registered players, or {@code null} when a reset has cleared the pool the cards
+     *         came from
+     */
+    private List<PlayerState> registerWithCards(List<String> requestedNames, List<Scorecard> cards, long generation) {
+        return commands.execute("register_bulk", () -> {
+            if (cardPool.generation() != generation) {
+                // The reset cleared the pool, fingerprints included, so nothing is left to release.
+                return null;
+            }
+            List<PlayerState> registered = new ArrayList<>(requestedNames.size());
+            try {
+                ensureRoomFor(requestedNames.size());
+                for (String requestedName : requestedNames) {
+                    String displayName = StringUtils.hasText(requestedName)
+                            ? requestedName.trim()
+                            : "Player-" + (registeredCount + 1);
+                    UUID playerId = UUID.randomUUID();
+                    Instant joinedAt = Instant.now();
+                    Scorecard card = cards.get(registered.size());
+                    journal.playerRegistered(playerId, displayName, joinedAt);
+                    journal.cardAssigned(playerId, card);
+                    PlayerState player = applyPlayerRegistered(playerId, displayName, joinedAt);
+                    applyCardAssigned(player, card);
+                    registered.add(player);
+                }
+            } catch (RuntimeException e) {
+                cards.subList(registered.size(), cards.size()).forEach(cardPool::release);
+                throw e;
+            } finally {
+                refreshSnapshot();
+            }
+            return registered;
+        });
+    }
+
+    /**
+     * Makes room for {@code joining} more players, evicting idle ones if needed, so a bulk
+     * registration can be refused before it starts; the players are not reserved.
+     *
+     * @throws IllegalStateException when they do not fit
+     */
+    public void checkRoomFor(int joining) {
+        commands.execute("register_check", () -> {
+            ensureRoomFor(joining);
+            return null;
+        });
+    }
+
+    /**
+     * Looks the player up and counts the lookup as activity that keeps the player from being evicted.
+     */
+    public PlayerState getPlayer(UUID playerId) {
+        PlayerState player = Optional.ofNullable(players.get(playerId))
                 .orElseThrow(() -> new IllegalArgumentException("Unknown player id"));
+        player.touch(System.nanoTime());
+        return player;
     }
 
-    public synchronized List<Scorecard> previewScorecards(int count) {
-        ensureCardPool(Math.max(count, SCORECARD_POOL_TARGET));
-        List<Scorecard> cards = new ArrayList<>(cardPool.values());
-        Collections.shuffle(cards, random);
-        return cards.stream().limit(count).collect(Collectors.toList());
+    /**
+     * Evicts players idle for longer than {@code bingo.players.idle-timeout}, returning their cards'
+     * fingerprints to the pool and their index slots to the card index. Players holding a card
+     * are kept while a game is in progress, and their idle time only starts when it ends.
+     *
+     * @return the number of players evicted
+     */
+    public int evictIdlePlayers() {
+        return evictIdlePlayers(System.nanoTime());
     }
 
-    public synchronized PlayerState assignScorecard(UUID playerId, String scorecardId) {
-        PlayerState player = getPlayer(playerId);
-        Scorecard card = cardPool.remove(scorecardId);
-        if (card == null) {
-            throw new IllegalArgumentException("Scorecard already taken, please pick another");
+    int evictIdlePlayers(long nowNanos) {
+        return commands.execute("evict", () -> {
+            int evicted = evictIdle(nowNanos);
+            if (evicted > 0) {
+                refreshSnapshot();
+            }
+            return evicted;
+        });
+    }
+
+    /**
+     * Not a command: previews are served from the pre-built card pool without touching game state.
+     * The returned cards are leased to the player (or anonymously when {@code playerId} is null)
+     * until the lease expires or the player asks for another preview.
+     */
+    public List<Scorecard> previewScorecards(UUID playerId, int count) {
+        if (playerId != null) {
+            getPlayer(playerId);
         }
-        if (player.getScorecard() != null) {
-            assignedCardFingerprints.remove(player.getScorecard().fingerprint());
+        long started = System.nanoTime();
+        List<Scorecard> cards = cardPool.preview(playerId, count);
+        metrics.operationCompleted("preview", System.nanoTime() - started);
+        return cards;
+    }
+
+    /**
+     * Pre-built scorecards currently ready to be previewed.
+     */
+    public int availableScorecards() {
+        return cardPool.size();
+    }
+
+    public PlayerState assignScorecard(UUID playerId, String scorecardId) {
+        return commands.execute("assign", () -> {
+            PlayerState player = getPlayer(playerId);
+            Scorecard card = cardPool.take(playerId, scorecardId);
+            if (card == null) {
+                throw new IllegalArgumentException("Scorecard is no longer available, please pick another");
+            }
+            journal.cardAssigned(playerId, card);
+            applyCardAssigned(player, card);
+            return player;
+        });
+    }
+
+    public GameStateResponse startGame() {
+        return commands.execute("start", () -> {
+            if (status == GameStatus.IN_PROGRESS) {
+                return published.getState();
+            }
+            if (remainingCalls() == 0) {
+                shuffleCallOrder();
+            }
+            Instant now = Instant.now();
+            journal.gameStarted(now);
+            applyGameStarted(now);
+            return publish();
+        });
+    }
+
+    public GameStateResponse resetGame(boolean dropPlayers) {
+        return resetGame(dropPlayers, null);
+    }
+
+    /**
+     * Resets the game onto the latest version of the named deck, or of the current deck when
+     * {@code deckName} is null. If the current deck has since been removed the default deck is used.
+     */
+    public GameStateResponse resetGame(boolean dropPlayers, String deckName) {
+        return resetGame(dropPlayers, deckName, null, null);
+    }
+
+    /**
+     * Like {@link #resetGame(boolean, String)}, also choosing the card size and the win patterns of
+     * the next game; a null size or pattern set keeps the current one. The patterns are compiled
+     * here, once per game.
+     */
+    public GameStateResponse resetGame(
+            boolean dropPlayers, String deckName, Integer cardSize, Set<ClaimType> patternTypes) {
+        return commands.execute("reset", () -> {
+            String selected = deckName;
+            if (selected == null) {
+                selected = keywordRepository.findDictionary(deck) != null ? deck : KeywordRepository.DEFAULT_DECK;
+            }
+            PhraseDictionary phrases = keywordRepository.deck(selected).getDictionary();
+            WinPatterns rules = cardSize == null && patternTypes == null
+                    ? patterns
+                    : WinPatterns.of(
+                            cardSize != null ? cardSize : patterns.getCardSize(),
+                            patternTypes != null ? patternTypes : patterns.getTypes());
+            int needed = ScorecardGenerator.phrasesPerCard(rules.getCardSize());
+            if (phrases.size() < needed) {
+                throw new IllegalArgumentException("Deck %s has %d phrases, a %dx%d card needs %d".formatted(
+                        selected, phrases.size(), rules.getCardSize(), rules.getCardSize(), needed));
+            }
+            archiveIfAbandoned(Instant.now());
+            journal.gameReset(dropPlayers, selected, phrases, rules);
+            applyGameReset(dropPlayers, selected, phrases, rules);
+            shuffleCallOrder();
+            return publish();
+        });
+    }
+
+    /**
+     * Calls the next phrase. When auto-adjudication is enabled every pattern completed by this
+     * call is recorded as a winner and reported in the response; the work is proportional to the
+     * number of cards holding the phrase, not to the number of players.
+     */
+    public DrawNumberResponse drawNextNumber() {
+        return commands.execute("draw", () -> {
+            if (status == GameStatus.WAITING_FOR_HOST) {
+                throw new IllegalStateException("Start the game before drawing numbers");
+            }
+            Instant now = Instant.now();
+            journal.phraseDrawn(now);
+            List<Winner> newWinners = applyPhraseDrawn(now);
+            archiveIfComplete(now);
+            return new DrawNumberResponse(publish(), newWinners);
+        });
+    }
+
+    /**
+     * Evaluates a claim. Claims are throttled per player, and a claim that was already rejected
+     * for the same card, game and draw is answered from the claim cache without taking the game.
+     *
+     * @throws RateLimitedException when the player claims faster than {@code bingo.claims} allows
+     */
+    public ClaimEvaluation claimWin(UUID playerId, ClaimType type) {
+        PlayerState claimant = getPlayer(playerId);
+        if (!patterns.plays(type)) {
+            throw new IllegalArgumentException("Pattern %s is not played in this game".formatted(type));
         }
-        player.setScorecard(card);
-        assignedCardFingerprints.add(card.fingerprint());
+        try {
+            claimTracker.acquire(playerId, System.nanoTime());
+        } catch (RateLimitedException e) {
+            metrics.claimEvaluated(type, GameMetrics.ClaimOutcome.RATE_LIMITED);
+            throw e;
+        }
+        GameStateSnapshot snapshot = published;
+        ClaimTracker.Rejection cached = claimTracker.cached(playerId, type, claimant.getScorecard(),
+                snapshot.getResetVersion(), snapshot.getState().getCalledPhrases().size());
+        if (cached != null) {
+            metrics.claimEvaluated(type, cached.outcome());
+            return new ClaimEvaluation(false, cached.message(), snapshot.getState().getWinners());
+        }
+        return commands.execute("claim", () -> {
+            PlayerState player = getPlayer(playerId);
+            Scorecard card = player.getScorecard();
+            if (card == null) {
+                return reject(type, GameMetrics.ClaimOutcome.NO_SCORECARD, "Select a scorecard before claiming");
+            }
+            if (!cardIndex.matches(playerId, patterns, type)) {
+                return reject(playerId, card, type, GameMetrics.ClaimOutcome.INCOMPLETE,
+                        "Squares not complete for this pattern");
+            }
+            if (hasWon(playerId, type)) {
+                return reject(playerId, card, type, GameMetrics.ClaimOutcome.DUPLICATE, DUPLICATE_CLAIM);
+            }
+            if (!canAward(type)) {
+                return reject(playerId, card, type, GameMetrics.ClaimOutcome.LIMIT_REACHED,
+                        "Three full-card winners already recorded");
+            }
+            Instant now = Instant.now();
+            journal.claimAccepted(playerId, type, now);
+            recordWinner(player, type, now);
+            archiveIfComplete(now);
+            publish();
+            claimTracker.remember(playerId, type, card, resetVersion, calledPhrases.size(),
+                    GameMetrics.ClaimOutcome.DUPLICATE, DUPLICATE_CLAIM);
+            metrics.claimEvaluated(type, GameMetrics.ClaimOutcome.ACCEPTED);
+            return new ClaimEvaluation(true, "Claim accepted", winners.view());
+        });
+    }
+
+    private ClaimEvaluation reject(ClaimType type, GameMetrics.ClaimOutcome outcome, String message) {
+        metrics.claimEvaluated(type, outcome);
+        return new ClaimEvaluation(false, message, winners.view());
+    }
+
+    /**
+     * Rejects a claim that stays rejected until the next draw, start or reset, or a new card, and
+     * caches the rejection until then.
+     */
+    private ClaimEvaluation reject(
+            UUID playerId, Scorecard card, ClaimType type, GameMetrics.ClaimOutcome outcome, String message) {
+        claimTracker.remember(playerId, type, card, resetVersion, calledPhrases.size(), outcome, message);
+        return reject(type, outcome, message);
+    }
+
+    /**
+     * Forecasts how many more draws the game needs before the next winner of each played pattern
+     * and before it ends, from {@code trials} simulated orders of the uncalled phrases over the cards
+     * assigned now, or {@code bingo.forecast.trials} when null. The command only copies the card
+     * list; the simulation runs on the common fork-join pool, and a forecast is reused until the
+     * game changes.
+     */
+    public PacingForecastResponse forecast(Integer trials) {
+        int count = trials != null ? trials : forecastTrials;
+        if (count < 1 || count > maxForecastTrials) {
+            throw new IllegalArgumentException("Trials must be between 1 and " + maxForecastTrials);
+        }
+        PacingForecastResponse cached = lastForecast;
+        if (cached != null && cached.getTrials() == count && cached.getVersion() == published.getState().getVersion()) {
+            return cached;
+        }
+        PacingForecaster forecaster = commands.execute("forecast", () -> {
+            List<Scorecard> cards = new ArrayList<>(players.size());
+            int[] awarded = new int[players.size()];
+            for (PlayerState player : players.values()) {
+                if (player.getScorecard() != null) {
+                    awarded[cards.size()] = awardedTypes.getOrDefault(player.getId(), 0);
+                    cards.add(player.getScorecard());
+                }
+            }
+            int fullCardsNeeded = status == GameStatus.COMPLETE
+                    ? 0
+                    : MAX_FULL_CARD_WINNERS - winnersByType[ClaimType.FULL_CARD.ordinal()];
+            return new PacingForecaster(version, cards, Arrays.copyOf(awarded, cards.size()),
+                    Arrays.copyOfRange(callOrder, nextCall, callOrder.length), dictionary().size(), patterns,
+                    fullCardsNeeded);
+        });
+        PacingForecastResponse forecast = forecaster.forecast(count, new SplittableRandom(random.nextLong()));
+        lastForecast = forecast;
+        return forecast;
+    }
+
+    /**
+     * Lock-free: returns the state published by the last mutation.
+     */
+    public GameStateResponse getCurrentState() {
+        return published.getState();
+    }
+
+    /**
+     * Lock-free: returns the snapshot published by the last mutation, including its cached JSON.
+     */
+    public GameStateSnapshot currentSnapshot() {
+        return published;
+    }
+
+    /**
+     * Lock-free: see {@link GameStateSnapshot#since(long)}.
+     */
+    public GameStateDeltaResponse getStateSince(long since) {
+        return published.since(since);
+    }
+
+    private PlayerState applyPlayerRegistered(UUID playerId, String displayName, Instant joinedAt) {
+        PlayerState player = new PlayerState(playerId, displayName, joinedAt);
+        players.put(playerId, player);
+        registeredCount++;
+        version++;
         return player;
     }
 
-    public synchronized GameStateResponse startGame() {
+    private void applyPlayerEvicted(PlayerState player) {
+        players.remove(player.getId());
+        if (player.getScorecard() != null) {
+            cardIndex.remove(player.getId());
+            cardPool.release(player.getScorecard());
+        }
+        cardPool.releasePlayer(player.getId());
+        claimTracker.forget(player.getId());
+        awardedTypes.remove(player.getId());
+        version++;
+    }
+
+    /**
+     * Makes room for {@code joining} more players, evicting idle ones if the room is full.
+     */
+    private void ensureRoomFor(int joining) {
+        if (players.size() + joining > maxPlayers && evictIdle(System.nanoTime()) > 0) {
+            refreshSnapshot();
+        }
+        if (players.size() + joining > maxPlayers) {
+            throw new IllegalStateException("The room is full, try again later");
+        }
+    }
+
+    private int evictIdle(long nowNanos) {
         if (status == GameStatus.IN_PROGRESS) {
-            return snapshot();
+            lastPlayedNanos = nowNanos;
+        }
+        List<PlayerState> idle = players.values().stream()
+                .filter(player -> isIdle(player, nowNanos))
+                .toList();
+        for (PlayerState player : idle) {
+            journal.playerEvicted(player.getId());
+            applyPlayerEvicted(player);
         }
-        if (callQueue.isEmpty()) {
-            refillCallQueue();
+        if (!idle.isEmpty()) {
+            metrics.playersEvicted(idle.size());
         }
+        return idle.size();
+    }
+
+    private boolean isIdle(PlayerState player, long nowNanos) {
+        long lastActive = player.getLastActiveNanos();
+        if (player.getScorecard() != null) {
+            if (status == GameStatus.IN_PROGRESS) {
+                return false;
+            }
+            if (lastPlayedNanos - lastActive > 0) {
+                lastActive = lastPlayedNanos;
+            }
+        }
+        return nowNanos - lastActive > playerIdleNanos;
+    }
+
+    private void applyCardAssigned(PlayerState player, Scorecard card) {
+        if (player.getScorecard() != null) {
+            cardPool.release(player.getScorecard());
+        }
+        player.setScorecard(card);
+        cardIndex.add(player, card, calledPhraseIds);
+        cardIndex.setAwarded(player.getId(), awardedTypes.getOrDefault(player.getId(), 0));
+    }
+
+    private void applyGameStarted(Instant now) {
         status = GameStatus.IN_PROGRESS;
-        startedAt = Instant.now();
-        currentCall = null;
-        calledPhrases.clear();
-        winners.clear();
-        return snapshot();
+        startedAt = now;
+        archived = false;
+        clearCalls();
+        clearWinners();
+        cardIndex.clearMarks();
+        resetVersion = ++version;
     }
 
-    public synchronized GameStateResponse resetGame(boolean dropPlayers) {
+    private void applyGameReset(
+            boolean dropPlayers, String deckName, PhraseDictionary phrases, WinPatterns rules) {
+        if (status == GameStatus.IN_PROGRESS) {
+            lastPlayedNanos = System.nanoTime();
+        }
+        deck = deckName;
+        dictionary = phrases;
+        patterns = rules;
         status = GameStatus.WAITING_FOR_HOST;
-        currentCall = null;
-        calledPhrases.clear();
-        winners.clear();
+        clearCalls();
+        clearWinners();
         startedAt = null;
         cardPool.clear();
-        assignedCardFingerprints.clear();
-        refillCallQueue();
+        cardIndex = new CardIndex(dictionary().size());
         if (dropPlayers) {
             players.clear();
+            claimTracker.clear();
+            registeredCount = 0;
         } else {
-            players.values().forEach(player -> player.setScorecard(null));
+            players.values().forEach(player -> {
+                // Their idle time starts now that the game they held a card in is over.
+                if (player.getScorecard() != null && lastPlayedNanos - player.getLastActiveNanos() > 0) {
+                    player.touch(lastPlayedNanos);
+                }
+                player.setScorecard(null);
+            });
         }
-        return snapshot();
+        resetVersion = ++version;
     }
 
-    public synchronized GameStateResponse drawNextNumber() {
-        if (status == GameStatus.WAITING_FOR_HOST) {
-            throw new IllegalStateException("Start the game before drawing numbers");
-        }
-        if (callQueue.isEmpty()) {
+    private List<Winner> applyPhraseDrawn(Instant now) {
+        version++;
+        if (remainingCalls() == 0) {
             status = GameStatus.COMPLETE;
-            return snapshot();
+            return List.of();
         }
-        currentCall = callQueue.removeFirst();
+        callVersions[calledPhrases.size()] = version;
+        int phraseId = callOrder[nextCall++];
+        currentCall = dictionary().phrase(phraseId);
         calledPhrases.add(currentCall);
-        if (callQueue.isEmpty()) {
+        calledPhraseIds.set(phraseId);
+        List<Winner> newWinners = new ArrayList<>();
+        cardIndex.mark(phraseId, autoAdjudicate
+                ? (owner, cell, low, high, awarded) -> adjudicate(owner, cell, low, high, awarded, now, newWinners)
+                : (owner, cell, low, high, awarded) -> { });
+        if (remainingCalls() == 0) {
             status = GameStatus.COMPLETE;
         }
-        return snapshot();
-    }
-
-    public synchronized ClaimEvaluation claimWin(UUID playerId, ClaimType type) {
-        PlayerState player = getPlayer(playerId);
-        Scorecard card = player.getScorecard();
-        if (card == null) {
-            return new ClaimEvaluation(false, "Select a scorecard before claiming", List.copyOf(winners));
-        }
-        boolean matches = switch (type) {
-            case ROW -> hasAnyRowComplete(card);
-            case COLUMN -> hasAnyColumnComplete(card);
-            case DIAGONAL -> hasDiagonalComplete(card);
-            case FULL_CARD -> hasFullCard(card);
-        };
-        if (!matches) {
-            return new ClaimEvaluation(false, "Squares not complete for this pattern", List.copyOf(winners));
-        }
-        boolean duplicateClaim = winners.stream()
-                .anyMatch(existing -> existing.getPlayerId().equals(playerId) && existing.getClaimType() == type);
-        if (duplicateClaim) {
-            return new ClaimEvaluation(false, "Claim already recorded", List.copyOf(winners));
-        }
-        if (type == ClaimType.FULL_CARD) {
-            long alreadyAwarded = winners.stream()
-                    .filter(existing -> existing.getClaimType() == ClaimType.FULL_CARD)
-                    .count();
-            if (alreadyAwarded >= MAX_FULL_CARD_WINNERS) {
-                return new ClaimEvaluation(false, "Three full-card winners already recorded", List.copyOf(winners));
+        return List.copyOf(newWinners);
+    }
+
+    private void adjudicate(PlayerState owner, int cell, long markedLow, long markedHigh, int awardedTypes,
+            Instant now, List<Winner> newWinners) {
+        WinPatterns rules = patterns;
+        for (ClaimType type : rules.getTypes()) {
+            if ((awardedTypes & (1 << type.ordinal())) == 0
+                    && rules.completes(type, cell, markedLow, markedHigh)
+                    && canAward(type)) {
+                newWinners.add(recordWinner(owner, type, now));
             }
         }
-        Winner winner = new Winner(player.getId(), player.getDisplayName(), type, Instant.now());
+    }
+
+    private boolean canAward(ClaimType type) {
+        return type != ClaimType.FULL_CARD || winnersByType[ClaimType.FULL_CARD.ordinal()] < MAX_FULL_CARD_WINNERS;
+    }
+
+    private boolean hasWon(UUID playerId, ClaimType type) {
+        return (awardedTypes.getOrDefault(playerId, 0) & (1 << type.ordinal())) != 0;
+    }
+
+    private Winner recordWinner(PlayerState player, ClaimType type, Instant now) {
+        Winner winner = new Winner(player.getId(), player.getDisplayName(), type, calledPhrases.size(), now);
+        if (winners.size() == winnerVersions.length) {
+            winnerVersions = Arrays.copyOf(winnerVersions, winnerVersions.length * 2);
+        }
+        winnerVersions[winners.size()] = ++version;
         winners.add(winner);
-        if (type == ClaimType.FULL_CARD && winners.stream()
-                .filter(existing -> existing.getClaimType() == ClaimType.FULL_CARD)
-                .count() >= MAX_FULL_CARD_WINNERS) {
+        awardedTypes.merge(player.getId(), 1 << type.ordinal(), (awarded, added) -> awarded | added);
+        winnersByType[type.ordinal()]++;
+        cardIndex.markAwarded(player.getId(), type);
+        if (type == ClaimType.FULL_CARD && winnersByType[type.ordinal()] >= MAX_FULL_CARD_WINNERS) {
             status = GameStatus.COMPLETE;
         }
-        return new ClaimEvaluation(true, "Claim accepted", List.copyOf(winners));
+        return winner;
     }
 
-    public synchronized GameStateResponse getCurrentState() {
-        return snapshot();
+    private void archiveIfComplete(Instant now) {
+        if (status == GameStatus.COMPLETE && !archived) {
+            archiveGame(now, true);
+        }
     }
 
-    private void ensureCardPool(int desiredSize) {
-        List<String> keywords = keywordPool();
-        while (cardPool.size() < desiredSize) {
-            Scorecard candidate = ScorecardGenerator.create(random, keywords);
-            if (assignedCardFingerprints.contains(candidate.fingerprint())) {
-                continue;
-            }
-            cardPool.put(candidate.getId(), candidate);
+    private void archiveIfAbandoned(Instant now) {
+        if (status == GameStatus.IN_PROGRESS && calledPhrases.size() > 0) {
+            archiveGame(now, false);
         }
     }
 
-    private void refillCallQueue() {
-        callQueue.clear();
-        List<String> keywords = new ArrayList<>(keywordPool());
-        Collections.shuffle(keywords, random);
-        callQueue.addAll(keywords);
+    private void archiveGame(Instant now, boolean completed) {
+        archived = true;
+        lastPlayedNanos = System.nanoTime();
+        archive.accept(new FinishedGame(
+                startedAt, now, completed, players.size(), calledPhrases.view(), winners.view()));
     }
 
-    private boolean hasAnyRowComplete(Scorecard card) {
-        for (int row = 0; row < card.getSize(); row++) {
-            boolean rowComplete = true;
-            for (int col = 0; col < card.getSize(); col++) {
-                if (!isMarked(card.getValue(row, col))) {
-                    rowComplete = false;
-                    break;
-                }
-            }
-            if (rowComplete) {
-                return true;
-            }
-        }
-        return false;
+    private void clearWinners() {
+        winners.clear();
+        // Published snapshots still search the old versions, so the next game records into a new array.
+        winnerVersions = new long[winnerVersions.length];
+        awardedTypes.clear();
+        Arrays.fill(winnersByType, 0);
     }
 
-    private boolean hasAnyColumnComplete(Scorecard card) {
-        for (int col = 0; col < card.getSize(); col++) {
-            boolean columnComplete = true;
-            for (int row = 0; row < card.getSize(); row++) {
-                if (!isMarked(card.getValue(row, col))) {
-                    columnComplete = false;
-                    break;
-                }
-            }
-            if (columnComplete) {
-                return true;
-            }
+    private void shuffleCallOrder() {
+        int[] order = new int[dictionary().size()];
+        for (int index = 0; index < order.length; index++) {
+            order[index] = index;
+        }
+        for (int index = order.length - 1; index > 0; index--) {
+            int swap = random.nextInt(index + 1);
+            int value = order[index];
+            order[index] = order[swap];
+            order[swap] = value;
         }
-        return false;
+        journal.callOrderShuffled(order);
+        applyCallOrder(order);
     }
 
-    private boolean hasDiagonalComplete(Scorecard card) {
-        boolean leftToRight = true;
-        boolean rightToLeft = true;
-        int size = card.getSize();
-        for (int index = 0; index < size; index++) {
-            if (!isMarked(card.getValue(index, index))) {
-                leftToRight = false;
-            }
-            if (!isMarked(card.getValue(index, size - index - 1))) {
-                rightToLeft = false;
-            }
-        }
-        return leftToRight || rightToLeft;
+    private void applyCallOrder(int[] order) {
+        callOrder = order;
+        nextCall = 0;
+        callVersions = new long[order.length];
     }
 
-    private boolean hasFullCard(Scorecard card) {
-        for (int row = 0; row < card.getSize(); row++) {
-            for (int col = 0; col < card.getSize(); col++) {
-                if (!isMarked(card.getValue(row, col))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private int remainingCalls() {
+        return callOrder.length - nextCall;
     }
 
-    private boolean isMarked(String phrase) {
-        return ScorecardGenerator.FREE_SPACE.equals(phrase) || calledPhrases.contains(phrase);
+    private void clearCalls() {
+        currentCall = null;
+        calledPhrases.clear();
+        calledPhraseIds.clear();
+        callVersions = new long[callVersions.length];
     }
 
-    private List<String> keywordPool() {
-        List<String> keywords = keywordRepository.getKeywords();
-        if (keywords.isEmpty()) {
+    private PhraseDictionary dictionary() {
+        PhraseDictionary phrases = dictionary;
+        if (phrases == null || phrases.size() == 0) {
             throw new IllegalStateException("Keyword list is empty");
         }
-        return keywords;
+        return phrases;
+    }
+
+    private GameStateResponse publish() {
+        GameStateSnapshot snapshot = refreshSnapshot();
+        stateListener.accept(snapshot);
+        return snapshot.getState();
     }
 
-    private GameStateResponse snapshot() {
-        List<String> called = List.copyOf(calledPhrases);
-        return new GameStateResponse(
+    /**
+     * Rebuilds the published snapshot; O(1) because the call and winner lists are append-only views.
+     */
+    private GameStateSnapshot refreshSnapshot() {
+        GameStateResponse state = new GameStateResponse(
+                version,
                 status,
+                deck,
+                patterns.getCardSize(),
+                patterns.getTypes(),
                 currentCall,
-                called,
-                callQueue.size(),
+                calledPhrases.view(),
+                remainingCalls(),
                 players.size(),
-                List.copyOf(winners));
+                winners.view());
+        GameStateSnapshot snapshot = new GameStateSnapshot(
+                state, resetVersion, callVersions, winnerVersions,
+                dictionary, callOrder, nextCall - calledPhrases.size());
+        published = snapshot;
+        return snapshot;
     }
+
+    /**
+     * Versions start from the wall clock in microseconds so they keep increasing across restarts and
+     * a client never mistakes a fresh game for the one it cached.
+     */
+    private static long initialVersion() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+
+    /**
+     * Applies journaled events without recording them again; runs inside the boot command.
+     */
+    private final class Replay implements GameJournal {
+
+        @Override
+        public void playerRegistered(UUID playerId, String displayName, Instant joinedAt) {
+            applyPlayerRegistered(playerId, displayName, joinedAt);
+        }
+
+        @Override
+        public void cardAssigned(UUID playerId, Scorecard card) {
+            cardPool.adopt(card);
+            applyCardAssigned(getPlayer(playerId), card);
+        }
+
+        @Override
+        public void playerEvicted(UUID playerId) {
+            PlayerState player = players.get(playerId);
+            if (player != null) {
+                applyPlayerEvicted(player);
+            }
+        }
+
+        @Override
+        public void gameReset(
+                boolean dropPlayers, String deckName, PhraseDictionary phrases, WinPatterns rules) {
+            applyGameReset(dropPlayers, deckName, phrases, rules);
+        }
+
+        @Override
+        public void callOrderShuffled(int[] order) {
+            applyCallOrder(order);
+        }
+
+        @Override
+        public void gameStarted(Instant startedAt) {
+            applyGameStarted(startedAt);
+        }
+
+        @Override
+        public void phraseDrawn(Instant drawnAt) {
+            applyPhraseDrawn(drawnAt);
+        }
+
+        @Override
+        public void claimAccepted(UUID playerId, ClaimType type, Instant acceptedAt) {
+            recordWinner(getPlayer(playerId), type, acceptedAt);
+        }
+    }
+
 }
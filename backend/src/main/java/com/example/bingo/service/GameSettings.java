@@ -0,0 +1,381 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimType;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tunables for the game engine, bound from the {@code bingo.*} properties.
+ */
+@ConfigurationProperties(prefix = "bingo")
+public class GameSettings {
+
+    private boolean autoAdjudicate;
+    private ConcurrencyMode concurrency = ConcurrencyMode.LOCKED;
+    private final Rooms rooms = new Rooms();
+    private final Players players = new Players();
+    private final Claims claims = new Claims();
+    private final Card card = new Card();
+    private final Forecast forecast = new Forecast();
+    private final Events events = new Events();
+    private final CardPool cardPool = new CardPool();
+    private final Journal journal = new Journal();
+    private final Caller caller = new Caller();
+    private final Decks decks = new Decks();
+
+    public boolean isAutoAdjudicate() {
+        return autoAdjudicate;
+    }
+
+    public void setAutoAdjudicate(boolean autoAdjudicate) {
+        this.autoAdjudicate = autoAdjudicate;
+    }
+
+    public ConcurrencyMode getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(ConcurrencyMode concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Rooms getRooms() {
+        return rooms;
+    }
+
+    public Players getPlayers() {
+        return players;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public Card getCard() {
+        return card;
+    }
+
+    public Forecast getForecast() {
+        return forecast;
+    }
+
+    public Events getEvents() {
+        return events;
+    }
+
+    public CardPool getCardPool() {
+        return cardPool;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    public Caller getCaller() {
+        return caller;
+    }
+
+    public Decks getDecks() {
+        return decks;
+    }
+
+    public enum ConcurrencyMode {
+        /** Mutations run on the request thread under a per-room lock. */
+        LOCKED,
+        /** Mutations are queued to a single writer per room; request threads only wait for their own command. */
+        SINGLE_WRITER
+    }
+
+    public static class Rooms {
+
+        private Duration idleTimeout = Duration.ofHours(2);
+        private int max = 200;
+        private int writerThreads = Runtime.getRuntime().availableProcessors();
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public void setMax(int max) {
+            this.max = max;
+        }
+
+        public int getWriterThreads() {
+            return writerThreads;
+        }
+
+        public void setWriterThreads(int writerThreads) {
+            this.writerThreads = writerThreads;
+        }
+    }
+
+    public static class Players {
+
+        private Duration idleTimeout = Duration.ofMinutes(30);
+        private int max = 10_000;
+
+        /**
+         * How long a player may go without a request before being evicted. Players holding a card
+         * in a game in progress are kept until the game ends.
+         */
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        /**
+         * Most players one room holds; further joins are refused until idle players are evicted.
+         * Defaults to the most one bulk registration may add, so a full onboarding fits an empty room.
+         */
+        public int getMax() {
+            return max;
+        }
+
+        public void setMax(int max) {
+            this.max = max;
+        }
+    }
+
+    public static class Claims {
+
+        private Duration interval = Duration.ofMillis(500);
+        private int burst = 5;
+
+        /**
+         * Sustained spacing of one player's claims; zero turns claim throttling off.
+         */
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        /**
+         * Claims a player may send back to back before the interval applies.
+         */
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    public static class Card {
+
+        private int size = ScorecardGenerator.DEFAULT_CARD_SIZE;
+        private Set<ClaimType> patterns =
+                EnumSet.of(ClaimType.ROW, ClaimType.COLUMN, ClaimType.DIAGONAL, ClaimType.FULL_CARD);
+
+        /**
+         * Rows and columns of the cards of a new game, 3 to 9; a reset may pick another size.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        /**
+         * Win patterns played in a new game, by default the classic row, column, diagonal and full
+         * card; hosts opt into the others here or when resetting a game.
+         */
+        public Set<ClaimType> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(Set<ClaimType> patterns) {
+            this.patterns = patterns;
+        }
+    }
+
+    public static class Forecast {
+
+        private int trials = 4000;
+        private int maxTrials = 50_000;
+
+        /**
+         * Simulated draw orders per pacing forecast unless the host asks for another number.
+         */
+        public int getTrials() {
+            return trials;
+        }
+
+        public void setTrials(int trials) {
+            this.trials = trials;
+        }
+
+        public int getMaxTrials() {
+            return maxTrials;
+        }
+
+        public void setMaxTrials(int maxTrials) {
+            this.maxTrials = maxTrials;
+        }
+    }
+
+    public static class Events {
+
+        private int fanoutThreads = 2;
+        private Duration subscriberTimeout = Duration.ofMinutes(30);
+
+        public int getFanoutThreads() {
+            return fanoutThreads;
+        }
+
+        public void setFanoutThreads(int fanoutThreads) {
+            this.fanoutThreads = fanoutThreads;
+        }
+
+        public Duration getSubscriberTimeout() {
+            return subscriberTimeout;
+        }
+
+        public void setSubscriberTimeout(Duration subscriberTimeout) {
+            this.subscriberTimeout = subscriberTimeout;
+        }
+    }
+
+    public static class CardPool {
+
+        private int lowWatermark = 40;
+        private int highWatermark = 120;
+        private int producerThreads = 2;
+        private Duration leaseDuration = Duration.ofSeconds(60);
+
+        public int getLowWatermark() {
+            return lowWatermark;
+        }
+
+        public void setLowWatermark(int lowWatermark) {
+            this.lowWatermark = lowWatermark;
+        }
+
+        public int getHighWatermark() {
+            return highWatermark;
+        }
+
+        public void setHighWatermark(int highWatermark) {
+            this.highWatermark = highWatermark;
+        }
+
+        public int getProducerThreads() {
+            return producerThreads;
+        }
+
+        public void setProducerThreads(int producerThreads) {
+            this.producerThreads = producerThreads;
+        }
+
+        public Duration getLeaseDuration() {
+            return leaseDuration;
+        }
+
+        public void setLeaseDuration(Duration leaseDuration) {
+            this.leaseDuration = leaseDuration;
+        }
+    }
+
+    public static class Journal {
+
+        private boolean enabled;
+        private Path directory = Path.of("data", "journal");
+        private Duration flushInterval = Duration.ofMillis(20);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+    }
+
+    public static class Caller {
+
+        private Duration defaultInterval = Duration.ofSeconds(10);
+        private Duration minInterval = Duration.ofMillis(500);
+        private int threads = 1;
+
+        public Duration getDefaultInterval() {
+            return defaultInterval;
+        }
+
+        public void setDefaultInterval(Duration defaultInterval) {
+            this.defaultInterval = defaultInterval;
+        }
+
+        public Duration getMinInterval() {
+            return minInterval;
+        }
+
+        public void setMinInterval(Duration minInterval) {
+            this.minInterval = minInterval;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+    }
+
+    public static class Decks {
+
+        private Path directory = Path.of("decks");
+        private boolean watch = true;
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public boolean isWatch() {
+            return watch;
+        }
+
+        public void setWatch(boolean watch) {
+            this.watch = watch;
+        }
+    }
+}
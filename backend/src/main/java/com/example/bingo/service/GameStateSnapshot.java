@@ -0,0 +1,157 @@
+package com.example.bingo.service;
+
+import com.example.bingo.dto.CompactGameStateResponse;
+import com.example.bingo.dto.GameStateDeltaResponse;
+import com.example.bingo.dto.GameStateResponse;
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.Winner;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable game state published by {@link GameService} after each mutation. Readers get it
+ * without taking the game lock, and its JSON form is serialized at most once per version.
+ */
+public final class GameStateSnapshot {
+
+    private final GameStateResponse state;
+    private final long resetVersion;
+    private final long[] callVersions;
+    private final long[] winnerVersions;
+    private final PhraseDictionary dictionary;
+    private final int[] callOrder;
+    private final int firstCall;
+    private volatile byte[] json;
+    private volatile CompactGameStateResponse compact;
+
+    /**
+     * @param callOrder the game's call order; the calls in {@code state} are the ids from
+     *                  {@code firstCall} onwards, in order
+     */
+    GameStateSnapshot(
+            GameStateResponse state,
+            long resetVersion,
+            long[] callVersions,
+            long[] winnerVersions,
+            PhraseDictionary dictionary,
+            int[] callOrder,
+            int firstCall) {
+        this.state = state;
+        this.resetVersion = resetVersion;
+        this.callVersions = callVersions;
+        this.winnerVersions = winnerVersions;
+        this.dictionary = dictionary;
+        this.callOrder = callOrder;
+        this.firstCall = firstCall;
+    }
+
+    public GameStateResponse getState() {
+        return state;
+    }
+
+    public long getVersion() {
+        return state.getVersion();
+    }
+
+    /**
+     * @return the version of the last start or reset
+     */
+    long getResetVersion() {
+        return resetVersion;
+    }
+
+    /**
+     * @return the dictionary that the phrase ids of {@link #toCompact()} refer to
+     */
+    public PhraseDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns the state serialized as JSON; the bytes are shared, callers must not modify them.
+     */
+    public byte[] toJson(ObjectMapper objectMapper) {
+        byte[] bytes = json;
+        if (bytes == null) {
+            try {
+                bytes = objectMapper.writeValueAsBytes(state);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unable to serialize game state", e);
+            }
+            json = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns only the calls and winners added after {@code since}. When that version predates the
+     * last start or reset (or is unknown to this game) the complete lists are returned and the
+     * response is flagged as full.
+     */
+    public GameStateDeltaResponse since(long since) {
+        List<String> calls = state.getCalledPhrases();
+        List<Winner> winners = state.getWinners();
+        boolean full = since < resetVersion || since > state.getVersion();
+        int firstCall = full ? 0 : firstAfter(callVersions, calls.size(), since);
+        int firstWinner = full ? 0 : firstAfter(winnerVersions, winners.size(), since);
+        return new GameStateDeltaResponse(
+                state.getVersion(),
+                full,
+                state.getStatus(),
+                state.getCurrentCall(),
+                calls.subList(firstCall, calls.size()),
+                state.getRemainingCalls(),
+                state.getPlayerCount(),
+                winners.subList(firstWinner, winners.size()));
+    }
+
+    /**
+     * Returns the state with calls as phrase ids; built at most once per version.
+     */
+    public CompactGameStateResponse toCompact() {
+        CompactGameStateResponse response = compact;
+        if (response == null) {
+            response = compact(true, 0, 0);
+            compact = response;
+        }
+        return response;
+    }
+
+    /**
+     * Compact form of {@link #since(long)}.
+     */
+    public CompactGameStateResponse toCompactSince(long since) {
+        boolean full = since < resetVersion || since > state.getVersion();
+        if (full) {
+            return toCompact();
+        }
+        return compact(false,
+                firstAfter(callVersions, state.getCalledPhrases().size(), since),
+                firstAfter(winnerVersions, state.getWinners().size(), since));
+    }
+
+    private CompactGameStateResponse compact(boolean full, int fromCall, int fromWinner) {
+        int calls = state.getCalledPhrases().size();
+        List<Winner> winners = state.getWinners();
+        return new CompactGameStateResponse(
+                state.getVersion(),
+                full,
+                state.getStatus(),
+                state.getDeck(),
+                state.getCardSize(),
+                state.getPatterns(),
+                dictionary.version(),
+                calls == 0 ? null : callOrder[firstCall + calls - 1],
+                Arrays.copyOfRange(callOrder, firstCall + fromCall, firstCall + calls),
+                state.getRemainingCalls(),
+                state.getPlayerCount(),
+                winners.subList(fromWinner, winners.size()));
+    }
+
+    private static int firstAfter(long[] versions, int size, long since) {
+        int index = Arrays.binarySearch(versions, 0, size, since + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.PhraseDictionary;
+import java.util.function.Function;
+
+/**
+ * Where rooms keep the state that has to outlive the process. A game's working state stays in its
+ * {@link GameService}, which never waits on the store; the store holds each room's
+ * {@link GameJournal}, from which the game is rebuilt when the room is next opened. Every method defaults to the
+ * in-memory behaviour.
+ */
+public interface GameStateStore extends AutoCloseable {
+
+    /** Store that keeps every game in memory only, so nothing survives a restart. */
+    GameStateStore IN_MEMORY = new GameStateStore() {
+    };
+
+    /**
+     * Opens the room's journal for this instance.
+     *
+     * @param decks resolves the decks named in the journal when it is replayed
+     * @throws IllegalStateException when another instance sharing the store is serving the room
+     */
+    default GameJournal open(String roomId, Function<String, PhraseDictionary> decks) {
+        return GameJournal.NONE;
+    }
+
+    /**
+     * @return whether a room's state outlives its eviction, so an evicted room can be handed over to
+     *         another instance and rebuilt there
+     */
+    default boolean isDurable() {
+        return false;
+    }
+
+    /**
+     * Writes out and closes the room's journal, e.g. when the room is evicted, and lets other
+     * instances open it. The recorded state is kept; later appends to the closed journal fail.
+     */
+    default void release(String roomId) {
+    }
+
+    /**
+     * Releases the room and drops its recorded state.
+     */
+    default void delete(String roomId) {
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -1,33 +1,237 @@
 package com.example.bingo.service;
 
-import java.io.BufferedReader;
+import com.example.bingo.model.PhraseDictionary;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
+/**
+ * Named phrase decks. The {@value #DEFAULT_DECK} deck is built from {@code classpath:keywords.txt};
+ * every {@code <name>.txt} file in {@code bingo.decks.directory} adds a deck, and a
+ * {@code default.txt} there replaces the built-in one.
+ * <p>
+ * Deck files are read through a memory mapping straight into a compact {@link PhraseDictionary}.
+ * With {@code bingo.decks.watch} the directory is watched and a changed file is reloaded into a
+ * new deck version; games keep the dictionary they were reset with, so a reload never blocks or
+ * changes a game in progress and takes effect at each room's next reset. Write deck files to a
+ * temporary name and move them into place so a half-written file is never loaded.
+ */
 @Component
 public class KeywordRepository {
 
-    private final List<String> keywords;
+    public static final String DEFAULT_DECK = "default";
 
-    public KeywordRepository(@Value("classpath:keywords.txt") Resource keywordsResource) {
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(keywordsResource.getInputStream(), StandardCharsets.UTF_8))) {
-            this.keywords = reader.lines()
-                    .map(String::trim)
-                    .filter(line -> !line.isEmpty())
-                    .collect(Collectors.toUnmodifiableList());
+    private static final Logger log = LoggerFactory.getLogger(KeywordRepository.class);
+    private static final String SUFFIX = ".txt";
+    private static final Pattern DECK_NAME = Pattern.compile("[A-Za-z0-9_-]{1,40}");
+    private static final int MIN_PHRASES = ScorecardGenerator.phrasesPerCard(ScorecardGenerator.MIN_CARD_SIZE);
+    private static final long SETTLE_MILLIS = 100;
+
+    private final Deck builtIn;
+    private final ConcurrentMap<String, Deck> decks = new ConcurrentHashMap<>();
+    private final Path directory;
+    private final WatchService watcher;
+
+    public KeywordRepository(Resource keywordsResource) {
+        this(keywordsResource, null, false);
+    }
+
+    @Autowired
+    public KeywordRepository(@Value("classpath:keywords.txt") Resource keywordsResource, GameSettings settings) {
+        this(keywordsResource, settings.getDecks().getDirectory(), settings.getDecks().isWatch());
+    }
+
+    private KeywordRepository(Resource keywordsResource, Path directory, boolean watch) {
+        try (InputStream in = keywordsResource.getInputStream()) {
+            this.builtIn = new Deck(
+                    DEFAULT_DECK, PhraseDictionary.parse(ByteBuffer.wrap(in.readAllBytes())), null, Instant.now());
         } catch (IOException e) {
             throw new IllegalStateException("Unable to load keywords", e);
         }
+        decks.put(DEFAULT_DECK, builtIn);
+        this.directory = directory != null && Files.isDirectory(directory) ? directory : null;
+        if (this.directory != null) {
+            loadAll();
+        }
+        this.watcher = this.directory != null && watch ? watch() : null;
     }
 
     public List<String> getKeywords() {
-        return keywords;
+        return getDictionary().phrases();
+    }
+
+    /**
+     * @return the current version of the default deck
+     */
+    public PhraseDictionary getDictionary() {
+        return decks.get(DEFAULT_DECK).getDictionary();
+    }
+
+    /**
+     * @return the current version of the named deck
+     */
+    public Deck deck(String name) {
+        Deck deck = decks.get(name);
+        if (deck == null) {
+            throw new IllegalArgumentException("Unknown deck: " + name);
+        }
+        return deck;
+    }
+
+    /**
+     * @return the dictionary of the named deck, or {@code null} when there is no such deck
+     */
+    public PhraseDictionary findDictionary(String name) {
+        Deck deck = decks.get(name);
+        return deck == null ? null : deck.getDictionary();
+    }
+
+    public List<Deck> decks() {
+        return decks.values().stream().sorted(Comparator.comparing(Deck::getName)).toList();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                log.warn("Unable to stop watching deck directory {}", directory, e);
+            }
+        }
+    }
+
+    /**
+     * Loads, replaces or drops the deck stored in {@code file}, keeping the previous version if the
+     * file cannot be used.
+     */
+    void reload(Path file) {
+        String fileName = file.getFileName().toString();
+        String name = fileName.substring(0, fileName.length() - SUFFIX.length());
+        try {
+            PhraseDictionary dictionary = read(file);
+            if (dictionary.size() < MIN_PHRASES) {
+                log.warn("Ignoring deck {}: it has {} phrases, the smallest card needs {}",
+                        file, dictionary.size(), MIN_PHRASES);
+                return;
+            }
+            Deck previous = decks.put(name, new Deck(name, dictionary, file, Instant.now()));
+            log.info("{} deck {} with {} phrases", previous == null ? "Loaded" : "Reloaded", name, dictionary.size());
+        } catch (NoSuchFileException e) {
+            Deck removed = DEFAULT_DECK.equals(name) ? decks.put(name, builtIn) : decks.remove(name);
+            if (removed != null && removed != builtIn) {
+                log.info("Deck {} was removed", name);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Unable to load deck {}", file, e);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring deck {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void loadAll() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                if (isDeckFile(file)) {
+                    reload(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to list deck directory {}", directory, e);
+        }
+    }
+
+    private WatchService watch() {
+        try {
+            WatchService service = directory.getFileSystem().newWatchService();
+            directory.register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            Thread thread = new Thread(() -> watchLoop(service), "bingo-decks");
+            thread.setDaemon(true);
+            thread.start();
+            return service;
+        } catch (IOException e) {
+            log.warn("Unable to watch deck directory {}; decks will not be reloaded", directory, e);
+            return null;
+        }
+    }
+
+    /**
+     * Collects events until the directory has been quiet for a moment, then reloads each changed
+     * deck once, so a file written in several steps is loaded once it is complete.
+     */
+    private void watchLoop(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Set<Path> changed = new HashSet<>();
+                boolean overflow = false;
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            overflow = true;
+                        } else {
+                            changed.add(directory.resolve((Path) event.context()));
+                        }
+                    }
+                    key.reset();
+                    key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (overflow) {
+                    loadAll();
+                }
+                changed.stream().filter(KeywordRepository::isDeckFile).forEach(this::reload);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Shutting down.
+        }
+    }
+
+    private static boolean isDeckFile(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(SUFFIX)
+                && DECK_NAME.matcher(fileName.substring(0, fileName.length() - SUFFIX.length())).matches();
+    }
+
+    private static PhraseDictionary read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Deck file is larger than 2 GB");
+            }
+            return PhraseDictionary.parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
     }
 }
@@ -0,0 +1,27 @@
+package com.example.bingo.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+final class LockingCommandExecutor implements GameCommandExecutor {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final GameMetrics metrics;
+
+    LockingCommandExecutor(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> command) {
+        long requested = System.nanoTime();
+        lock.lock();
+        long acquired = System.nanoTime();
+        try {
+            return command.get();
+        } finally {
+            lock.unlock();
+            metrics.commandCompleted(operation, acquired - requested, System.nanoTime() - acquired);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the engine's measurements to Micrometer, and from there to {@code /actuator/prometheus}.
+ * <p>
+ * Meters are resolved once per operation, or up front for claims, so recording a measurement is a
+ * map lookup and an atomic add. Room gauges are sampled only when scraped.
+ */
+@Component
+public class MicrometerGameMetrics implements GameMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Counter[][] claims;
+    private final Counter evictions;
+
+    public MicrometerGameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        ClaimType[] types = ClaimType.values();
+        ClaimOutcome[] outcomes = ClaimOutcome.values();
+        this.claims = new Counter[types.length][outcomes.length];
+        for (ClaimType type : types) {
+            for (ClaimOutcome outcome : outcomes) {
+                claims[type.ordinal()][outcome.ordinal()] = Counter.builder("bingo.claims")
+                        .description("Claims evaluated, by claim type and outcome")
+                        .tag("type", type.name())
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        }
+        this.evictions = Counter.builder("bingo.players.evicted")
+                .description("Players evicted after going idle")
+                .register(registry);
+    }
+
+    @Override
+    public void commandCompleted(String operation, long waitNanos, long holdNanos) {
+        waitTimers.computeIfAbsent(operation, name -> timer("bingo.command.wait", name,
+                "Time a game command waited for the game's lock or writer")).record(waitNanos, TimeUnit.NANOSECONDS);
+        holdTimers.computeIfAbsent(operation, name -> timer("bingo.command.hold", name,
+                "Time a game command ran while holding the game")).record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void operationCompleted(String operation, long nanos) {
+        operationTimers.computeIfAbsent(operation, name -> timer("bingo.operation", name,
+                "Time taken by game operations outside the command executor")).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void claimEvaluated(ClaimType type, ClaimOutcome outcome) {
+        claims[type.ordinal()][outcome.ordinal()].increment();
+    }
+
+    @Override
+    public void playersEvicted(int count) {
+        evictions.increment(count);
+    }
+
+    @Override
+    public Runnable monitorRoom(String roomId, GameService game) {
+        List<Meter> gauges = List.of(
+                Gauge.builder("bingo.room.players", game, room -> room.getCurrentState().getPlayerCount())
+                        .description("Registered players")
+                        .tag("room", roomId)
+                        .register(registry),
+                Gauge.builder("bingo.room.calls.remaining", game, room -> room.getCurrentState().getRemainingCalls())
+                        .description("Phrases left to call in the current game")
+                        .tag("room", roomId)
+                        .register(registry),
+                Gauge.builder("bingo.room.card.pool", game, GameService::availableScorecards)
+                        .description("Pre-generated scorecards ready to be previewed")
+                        .tag("room", roomId)
+                        .register(registry));
+        return () -> gauges.forEach(registry::remove);
+    }
+
+    private Timer timer(String name, String operation, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.bingo.service;
+
+import com.example.bingo.dto.DrawDistributionResponse;
+import com.example.bingo.dto.PacingForecastResponse;
+import com.example.bingo.dto.PatternForecastResponse;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.Scorecard;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo forecast of how many more draws a game needs before the next winner of each pattern
+ * and before it ends.
+ * <p>
+ * Each trial shuffles the uncalled phrases into a random draw order and finds, for every contending
+ * card, the draw that completes each pattern: the latest-drawn cell of the pattern's quickest
+ * layout. Called phrases and the free space count as drawn already. A card's cells drawn before the
+ * best completions found so far are gathered into a bitmask, and only cards whose mask
+ * {@linkplain WinPatterns#matches matches} a pattern have its layouts walked. Trials run in chunks on the common fork-join pool, each chunk on its own
+ * split of one generator, and only per-chunk histograms of draw counts are merged.
+ */
+final class PacingForecaster {
+
+    private static final ClaimType[] CLAIM_TYPES = ClaimType.values();
+    private static final int CHUNK_TRIALS = 32;
+
+    private final long version;
+    // Row-major phrase id of every cell of every card, with phraseCount standing for the free space.
+    private final int[] cells;
+    private final int[] awardedTypes;
+    private final int cellCount;
+    private final int cardCount;
+    private final int[] queue;
+    private final int phraseCount;
+    private final WinPatterns patterns;
+    private final int fullCardsNeeded;
+
+    /**
+     * @param awardedTypes    per card, the claim types its player has already won as ordinal bits
+     * @param queue           the phrase ids still to be called, in any order
+     * @param fullCardsNeeded the full card winners still to be recorded before the game ends
+     */
+    PacingForecaster(long version, List<Scorecard> cards, int[] awardedTypes, int[] queue, int phraseCount,
+            WinPatterns patterns, int fullCardsNeeded) {
+        this.version = version;
+        this.cellCount = patterns.getCardSize() * patterns.getCardSize();
+        this.cardCount = cards.size();
+        this.cells = new int[cardCount * cellCount];
+        for (int card = 0; card < cardCount; card++) {
+            Scorecard scorecard = cards.get(card);
+            for (int cell = 0; cell < cellCount; cell++) {
+                int phraseId = scorecard.phraseIdAt(cell);
+                cells[card * cellCount + cell] = phraseId == Scorecard.FREE_SPACE_ID ? phraseCount : phraseId;
+            }
+        }
+        this.awardedTypes = awardedTypes;
+        this.queue = queue;
+        this.phraseCount = phraseCount;
+        this.patterns = patterns;
+        this.fullCardsNeeded = patterns.plays(ClaimType.FULL_CARD) ? Math.max(0, fullCardsNeeded) : 0;
+    }
+
+    PacingForecastResponse forecast(int trials, SplittableRandom random) {
+        int chunks = (trials + CHUNK_TRIALS - 1) / CHUNK_TRIALS;
+        SplittableRandom[] streams = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            streams[chunk] = random.split();
+        }
+        long[][] histograms = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> simulate(Math.min(CHUNK_TRIALS, trials - chunk * CHUNK_TRIALS), streams[chunk]))
+                .reduce(PacingForecaster::merge)
+                .orElseThrow();
+
+        List<PatternForecastResponse> forecasts = new ArrayList<>();
+        for (ClaimType type : patterns.getTypes()) {
+            int contenders = 0;
+            for (int card = 0; card < cardCount; card++) {
+                if ((awardedTypes[card] & (1 << type.ordinal())) == 0) {
+                    contenders++;
+                }
+            }
+            forecasts.add(new PatternForecastResponse(
+                    type, contenders, contenders == 0 ? null : distribution(histograms[type.ordinal()])));
+        }
+        return new PacingForecastResponse(version, trials, cardCount, queue.length, forecasts,
+                distribution(histograms[CLAIM_TYPES.length]));
+    }
+
+    /**
+     * @return per claim type ordinal, then for the game end, how many trials took each number of
+     *         draws; the last bucket counts trials without a winner
+     */
+    private long[][] simulate(int trials, SplittableRandom random) {
+        int draws = queue.length;
+        int never = draws + 1;
+        long[][] histograms = new long[CLAIM_TYPES.length + 1][draws + 2];
+        int[] order = queue.clone();
+        int[] position = new int[phraseCount + 1];
+        int[] times = new int[cellCount];
+        int[] best = new int[CLAIM_TYPES.length];
+        int[] fullCards = new int[fullCardsNeeded];
+        int[] played = patterns.getTypes().stream().mapToInt(ClaimType::ordinal).toArray();
+        // Per played type, the cells of all its layouts back to back, and where each layout ends.
+        int[][] layoutCells = new int[played.length][];
+        int[][] layoutEnds = new int[played.length][];
+        for (int index = 0; index < played.length; index++) {
+            int[][] layouts = patterns.layouts(CLAIM_TYPES[played[index]]);
+            layoutCells[index] = Arrays.stream(layouts).flatMapToInt(Arrays::stream).toArray();
+            layoutEnds[index] = new int[layouts.length];
+            for (int layout = 0, end = 0; layout < layouts.length; layout++) {
+                end += layouts[layout].length;
+                layoutEnds[index][layout] = end;
+            }
+        }
+        int fullCard = ClaimType.FULL_CARD.ordinal();
+
+        for (int trial = 0; trial < trials; trial++) {
+            for (int index = draws - 1; index > 0; index--) {
+                int swap = random.nextInt(index + 1);
+                int value = order[index];
+                order[index] = order[swap];
+                order[swap] = value;
+            }
+            for (int index = 0; index < draws; index++) {
+                position[order[index]] = index + 1;
+            }
+            Arrays.fill(best, never);
+            Arrays.fill(fullCards, never);
+
+            for (int card = 0; card < cardCount; card++) {
+                int base = card * cellCount;
+                int loose = 0;
+                for (int ordinal : played) {
+                    loose = Math.max(loose, ordinal == fullCard && fullCards.length > 0 ? 0 : best[ordinal]);
+                }
+                int fullLimit = fullCards.length > 0 ? fullCards[fullCards.length - 1] : 0;
+                // Cells drawn before the loosest limit, and before the full card limit.
+                long looseLow = 0;
+                long looseHigh = 0;
+                long fullLow = 0;
+                long fullHigh = 0;
+                for (int cell = 0; cell < cellCount; cell++) {
+                    int drawn = position[cells[base + cell]];
+                    times[cell] = drawn;
+                    long bit = 1L << cell;
+                    if (cell < Long.SIZE) {
+                        looseLow |= drawn < loose ? bit : 0;
+                        fullLow |= drawn < fullLimit ? bit : 0;
+                    } else {
+                        looseHigh |= drawn < loose ? bit : 0;
+                        fullHigh |= drawn < fullLimit ? bit : 0;
+                    }
+                }
+                int awarded = awardedTypes[card];
+                for (int index = 0; index < played.length; index++) {
+                    int ordinal = played[index];
+                    if ((awarded & (1 << ordinal)) != 0) {
+                        continue;
+                    }
+                    boolean ranked = ordinal == fullCard && fullCards.length > 0;
+                    // No layout drawn entirely before the limit, so the card cannot beat it.
+                    if (ranked ? !patterns.matches(CLAIM_TYPES[ordinal], fullLow, fullHigh)
+                            : !patterns.matches(CLAIM_TYPES[ordinal], looseLow, looseHigh)) {
+                        continue;
+                    }
+                    int limit = ranked ? fullLimit : best[ordinal];
+                    int completed = completion(layoutCells[index], layoutEnds[index], times, limit);
+                    if (completed >= limit) {
+                        continue;
+                    }
+                    if (ranked) {
+                        insert(fullCards, completed);
+                        best[ordinal] = fullCards[0];
+                    } else {
+                        best[ordinal] = completed;
+                    }
+                }
+            }
+
+            for (int ordinal : played) {
+                histograms[ordinal][best[ordinal]]++;
+            }
+            int end = fullCards.length > 0 ? Math.min(fullCards[fullCards.length - 1], draws) : draws;
+            histograms[CLAIM_TYPES.length][end]++;
+        }
+        return histograms;
+    }
+
+    /**
+     * @return the draw completing the card's quickest layout, or {@code limit} if none beats it
+     */
+    private static int completion(int[] layoutCells, int[] layoutEnds, int[] times, int limit) {
+        int best = limit;
+        int cell = 0;
+        for (int end : layoutEnds) {
+            int latest = 0;
+            for (; cell < end; cell++) {
+                latest = Math.max(latest, times[layoutCells[cell]]);
+            }
+            best = Math.min(best, latest);
+        }
+        return best;
+    }
+
+    /**
+     * Keeps {@code ranked} as the smallest completions seen, in ascending order.
+     */
+    private static void insert(int[] ranked, int completed) {
+        int index = ranked.length - 1;
+        while (index > 0 && ranked[index - 1] > completed) {
+            ranked[index] = ranked[index - 1];
+            index--;
+        }
+        ranked[index] = completed;
+    }
+
+    private static long[][] merge(long[][] left, long[][] right) {
+        for (int row = 0; row < left.length; row++) {
+            for (int draws = 0; draws < left[row].length; draws++) {
+                left[row][draws] += right[row][draws];
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Summarises a histogram, leaving out its last bucket of trials without a winner.
+     */
+    private static DrawDistributionResponse distribution(long[] histogram) {
+        int last = histogram.length - 1;
+        long total = 0;
+        long sum = 0;
+        for (int draws = 0; draws < last; draws++) {
+            total += histogram[draws];
+            sum += draws * histogram[draws];
+        }
+        if (total == 0) {
+            return null;
+        }
+        int min = 0;
+        while (histogram[min] == 0) {
+            min++;
+        }
+        int max = last - 1;
+        while (histogram[max] == 0) {
+            max--;
+        }
+        return new DrawDistributionResponse(min, percentile(histogram, total, 0.1),
+                percentile(histogram, total, 0.5), percentile(histogram, total, 0.9), max, (double) sum / total);
+    }
+
+    private static int percentile(long[] histogram, long total, double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int draws = 0; ; draws++) {
+            seen += histogram[draws];
+            if (seen >= rank) {
+                return draws;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.bingo.service;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a player sends requests faster than allowed; answered with {@code 429 Too Many Requests}.
+ */
+public class RateLimitedException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public RateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
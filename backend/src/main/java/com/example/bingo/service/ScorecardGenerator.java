@@ -1,43 +1,178 @@
 package com.example.bingo.service;
 
+import com.example.bingo.model.PhraseDictionary;
 import com.example.bingo.model.Scorecard;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 
 /**
- * Utility to generate 5x5 Bingo scorecards using provided keyword phrases.
+ * Utility to generate NxN Bingo scorecards, 5x5 unless a size is given, using provided keyword
+ * phrases. Cards with an odd size have a free space in the centre.
+ * <p>
+ * Phrases are picked with a partial Fisher-Yates shuffle over phrase ids, so a card costs one
+ * random draw per phrase cell whatever the dictionary size. Unless a generator is passed in, each thread uses its own
+ * {@link SplittableRandom}; {@link SecureRandom} is only used to seed those generators. Card ids are
+ * what lets a player take an unleased card, so they always come from a per-thread {@link SecureRandom}
+ * and never from the generator that shuffles the cells.
  */
 public final class ScorecardGenerator {
 
-    public static final String FREE_SPACE = "FREE SPACE";
+    public static final String FREE_SPACE = Scorecard.FREE_SPACE;
+    public static final int DEFAULT_CARD_SIZE = 5;
+    public static final int MIN_CARD_SIZE = 3;
+    public static final int MAX_CARD_SIZE = 9;
+
+    private static final int BULK_CHUNK_SIZE = 256;
+
+    private static final SecureRandom SEEDS = new SecureRandom();
+    private static final ThreadLocal<SplittableRandom> THREAD_RANDOM =
+            ThreadLocal.withInitial(ScorecardGenerator::seededGenerator);
+    private static final ThreadLocal<SecureRandom> THREAD_ID_RANDOM =
+            ThreadLocal.withInitial(ScorecardGenerator::idGenerator);
+    // Phrase ids in identity order; each card's swaps are undone before the next card is built.
+    private static final ThreadLocal<int[]> THREAD_IDS = ThreadLocal.withInitial(() -> new int[0]);
 
     private ScorecardGenerator() {
     }
 
-    public static Scorecard create(SecureRandom random, List<String> keywords) {
-        if (keywords.size() < 24) {
-            throw new IllegalArgumentException("At least 24 keywords required to build a scorecard");
+    public static Scorecard create(RandomGenerator random, List<String> keywords) {
+        return create(random, PhraseDictionary.of(keywords));
+    }
+
+    /**
+     * @return the number of phrases on a card of the given size, i.e. every cell but the free space
+     */
+    public static int phrasesPerCard(int size) {
+        return size * size - (size % 2);
+    }
+
+    /**
+     * Builds a card on the calling thread's own generator.
+     */
+    public static Scorecard create(PhraseDictionary dictionary) {
+        return create(dictionary, DEFAULT_CARD_SIZE);
+    }
+
+    public static Scorecard create(PhraseDictionary dictionary, int size) {
+        return create(THREAD_RANDOM.get(), dictionary, size);
+    }
+
+    public static Scorecard create(RandomGenerator random, PhraseDictionary dictionary) {
+        return create(random, dictionary, DEFAULT_CARD_SIZE);
+    }
+
+    public static Scorecard create(RandomGenerator random, PhraseDictionary dictionary, int size) {
+        if (size < MIN_CARD_SIZE || size > MAX_CARD_SIZE) {
+            throw new IllegalArgumentException(
+                    "Card size must be between %d and %d".formatted(MIN_CARD_SIZE, MAX_CARD_SIZE));
+        }
+        int phrases = phrasesPerCard(size);
+        if (dictionary.size() < phrases) {
+            throw new IllegalArgumentException(
+                    "At least %d keywords required to build a %dx%d scorecard".formatted(phrases, size, size));
+        }
+        int[] ids = phraseIds(dictionary.size());
+        int[] picks = new int[phrases];
+        for (int index = 0; index < phrases; index++) {
+            int swap = index + random.nextInt(ids.length - index);
+            picks[index] = swap;
+            int value = ids[index];
+            ids[index] = ids[swap];
+            ids[swap] = value;
         }
-        List<String> pool = new ArrayList<>(keywords);
-        Collections.shuffle(pool, random);
-        List<String> selection = new ArrayList<>(pool.subList(0, 25));
 
-        List<List<String>> rows = new ArrayList<>();
+        int[] cells = new int[size * size];
+        int freeCell = size % 2 == 1 ? cells.length / 2 : -1;
         int index = 0;
-        for (int row = 0; row < 5; row++) {
-            List<String> rowValues = new ArrayList<>();
-            for (int col = 0; col < 5; col++) {
-                if (row == 2 && col == 2) {
-                    rowValues.add(FREE_SPACE);
-                } else {
-                    rowValues.add(selection.get(index++));
-                }
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = cell == freeCell ? Scorecard.FREE_SPACE_ID : ids[index++];
+        }
+        for (index = phrases - 1; index >= 0; index--) {
+            int swap = picks[index];
+            int value = ids[index];
+            ids[index] = ids[swap];
+            ids[swap] = value;
+        }
+        return new Scorecard(randomId(), size, cells, dictionary);
+    }
+
+    /**
+     * Builds {@code count} cards in parallel on the common fork-join pool, in chunks that each draw
+     * from their own split of one freshly seeded generator. Cards are independent draws, so callers
+     * that need unique layouts must still check their fingerprints.
+     */
+    public static List<Scorecard> createMany(int count, PhraseDictionary dictionary) {
+        return createMany(count, dictionary, DEFAULT_CARD_SIZE);
+    }
+
+    public static List<Scorecard> createMany(int count, PhraseDictionary dictionary, int size) {
+        if (count <= BULK_CHUNK_SIZE) {
+            List<Scorecard> cards = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) {
+                cards.add(create(dictionary, size));
+            }
+            return cards;
+        }
+        SplittableRandom root = seededGenerator();
+        int chunks = (count + BULK_CHUNK_SIZE - 1) / BULK_CHUNK_SIZE;
+        SplittableRandom[] streams = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            streams[chunk] = root.split();
+        }
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    int chunkSize = Math.min(BULK_CHUNK_SIZE, count - chunk * BULK_CHUNK_SIZE);
+                    List<Scorecard> cards = new ArrayList<>(chunkSize);
+                    for (int index = 0; index < chunkSize; index++) {
+                        cards.add(create(streams[chunk], dictionary, size));
+                    }
+                    return cards;
+                })
+                .collect(() -> new ArrayList<>(count), List::addAll, List::addAll);
+    }
+
+    private static int[] phraseIds(int size) {
+        int[] ids = THREAD_IDS.get();
+        if (ids.length != size) {
+            ids = new int[size];
+            for (int id = 0; id < size; id++) {
+                ids[id] = id;
             }
-            rows.add(rowValues);
+            THREAD_IDS.set(ids);
+        }
+        return ids;
+    }
+
+    /**
+     * A version 4 UUID drawn from the thread's own {@link SecureRandom} rather than the shared,
+     * synchronized one behind {@link UUID#randomUUID()}, so parallel card builds do not contend.
+     */
+    private static String randomId() {
+        SecureRandom random = THREAD_ID_RANDOM.get();
+        long high = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long low = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(high, low).toString();
+    }
+
+    private static SecureRandom idGenerator() {
+        try {
+            // DRBG instances lock only themselves, unlike the process-wide native generator.
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    private static SplittableRandom seededGenerator() {
+        synchronized (SEEDS) {
+            return new SplittableRandom(SEEDS.nextLong());
         }
-        return new Scorecard(UUID.randomUUID().toString(), rows);
     }
 }
@@ -0,0 +1,396 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.Scorecard;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Reserve of unassigned scorecards for one game, kept topped up by a background producer.
+ * <p>
+ * Whenever the free reserve drops below the low watermark a refill is queued on the producer
+ * executor, which builds cards outside the pool lock until the high watermark is reached.
+ * Fingerprints of pooled and assigned cards are tracked together so no two cards in the game are
+ * alike. Request threads only take cards that are already built, except when a preview asks for
+ * more cards than the free reserve holds.
+ * <p>
+ * Previewed cards are leased to the requesting player, so two players are never offered the same
+ * card at once. Free cards live in a dense array and are sampled by swap-remove in O(k). All leases
+ * share one duration, so they expire in FIFO order and are returned lazily on the next pool access.
+ */
+final class ScorecardPool {
+
+    private final Map<String, Integer> freeIndex = new HashMap<>();
+    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<UUID, List<Lease>> leasesByPlayer = new HashMap<>();
+    private final ArrayDeque<Lease> leaseExpiry = new ArrayDeque<>();
+    private final FingerprintSet fingerprints = new FingerprintSet();
+    private final AtomicBoolean refillQueued = new AtomicBoolean();
+    private final Supplier<PhraseDictionary> dictionary;
+    private final IntSupplier cardSize;
+    private final Executor producer;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final long leaseNanos;
+    private final LongSupplier nanoClock;
+    private Scorecard[] free = new Scorecard[64];
+    private int freeCount;
+    private long generation;
+
+    ScorecardPool(
+            Supplier<PhraseDictionary> dictionary,
+            IntSupplier cardSize,
+            Executor producer,
+            int lowWatermark,
+            int highWatermark,
+            Duration leaseDuration) {
+        this(dictionary, cardSize, producer, lowWatermark, highWatermark, leaseDuration, System::nanoTime);
+    }
+
+    ScorecardPool(
+            Supplier<PhraseDictionary> dictionary,
+            IntSupplier cardSize,
+            Executor producer,
+            int lowWatermark,
+            int highWatermark,
+            Duration leaseDuration,
+            LongSupplier nanoClock) {
+        if (lowWatermark < 0 || highWatermark < Math.max(1, lowWatermark)) {
+            throw new IllegalArgumentException("Card pool watermarks must satisfy 0 <= low <= high and high >= 1");
+        }
+        if (leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new IllegalArgumentException("Card lease duration must be positive");
+        }
+        this.dictionary = dictionary;
+        this.cardSize = cardSize;
+        this.producer = producer;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.leaseNanos = leaseDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Leases {@code count} random free cards to the player. Cards the player was offered before go
+     * back to the reserve first. Leases for a {@code null} player can be taken by anyone but are
+     * still hidden from other previews until they expire.
+     */
+    List<Scorecard> preview(UUID playerId, int count) {
+        List<Scorecard> cards = new ArrayList<>(count);
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            expireLeases(now);
+            if (playerId != null) {
+                releaseLeases(playerId);
+            }
+            while (cards.size() < count && freeCount > 0) {
+                Scorecard card = removeFree(ThreadLocalRandom.current().nextInt(freeCount));
+                lease(card, playerId, now);
+                cards.add(card);
+            }
+        }
+        if (cards.size() < count) {
+            cards.addAll(generateLeased(playerId, count - cards.size()));
+        }
+        requestRefillIfLow();
+        return cards;
+    }
+
+    /**
+     * Removes the card from the reserve; its fingerprint stays reserved until {@link #release}.
+     * A card leased to another player cannot be taken until that lease expires.
+     *
+     * @return the card, or {@code null} when it was taken already or is leased to someone else
+     */
+    Scorecard take(UUID playerId, String scorecardId) {
+        Scorecard card = null;
+        synchronized (this) {
+            expireLeases(nanoClock.getAsLong());
+            Lease lease = leases.get(scorecardId);
+            if (lease != null) {
+                if (lease.owner == null || lease.owner.equals(playerId)) {
+                    endLease(lease);
+                    card = lease.card;
+                }
+            } else {
+                Integer index = freeIndex.get(scorecardId);
+                if (index != null) {
+                    card = removeFree(index);
+                }
+            }
+        }
+        requestRefillIfLow();
+        return card;
+    }
+
+    /**
+     * Removes {@code count} unleased cards for bulk assignment, building any shortfall on the calling
+     * thread in one batch. Their fingerprints stay reserved until {@link #release}, or until the pool
+     * is cleared and its {@link #generation()} moves on.
+     *
+     * @param generation the generation the cards are for
+     * @return the cards, or {@code null} when the pool has been cleared since that generation
+     */
+    List<Scorecard> takeMany(int count, long generation) {
+        List<Scorecard> cards = new ArrayList<>(count);
+        synchronized (this) {
+            if (this.generation != generation) {
+                return null;
+            }
+            expireLeases(nanoClock.getAsLong());
+            while (cards.size() < count && freeCount > 0) {
+                cards.add(removeFree(freeCount - 1));
+            }
+        }
+        if (cards.size() < count) {
+            List<Scorecard> built = generateReserved(generation, count - cards.size());
+            if (built == null) {
+                // Cleared for a new game: what was taken belongs to the old one.
+                return null;
+            }
+            cards.addAll(built);
+        }
+        requestRefillIfLow();
+        return cards;
+    }
+
+    /**
+     * Reserves the fingerprint of a card assigned outside the pool, e.g. one restored from a journal.
+     */
+    synchronized void adopt(Scorecard card) {
+        fingerprints.add(card);
+    }
+
+    /**
+     * Frees the fingerprint of a previously assigned card that has been discarded.
+     */
+    synchronized void release(Scorecard card) {
+        fingerprints.remove(card);
+    }
+
+    /**
+     * Returns the cards leased to a player who has left to the reserve.
+     */
+    synchronized void releasePlayer(UUID playerId) {
+        releaseLeases(playerId);
+    }
+
+    /**
+     * Drops every pooled card, lease and fingerprint, e.g. when the game is reset, and starts refilling.
+     */
+    void clear() {
+        synchronized (this) {
+            Arrays.fill(free, 0, freeCount, null);
+            freeCount = 0;
+            freeIndex.clear();
+            leases.clear();
+            leasesByPlayer.clear();
+            leaseExpiry.clear();
+            fingerprints.clear();
+            generation++;
+        }
+        requestRefillIfLow();
+    }
+
+    /**
+     * @return the number of built cards that are neither leased nor assigned
+     */
+    synchronized int size() {
+        return freeCount;
+    }
+
+    synchronized int leasedCount() {
+        expireLeases(nanoClock.getAsLong());
+        return leases.size();
+    }
+
+    private void refill() {
+        boolean completed = false;
+        try {
+            fill();
+            completed = true;
+        } finally {
+            refillQueued.set(false);
+        }
+        if (completed) {
+            requestRefillIfLow();
+        }
+    }
+
+    private void fill() {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+        PhraseDictionary phrases = dictionary.get();
+        int size = cardSize.getAsInt();
+        while (true) {
+            synchronized (this) {
+                if (generation != startGeneration || freeCount >= highWatermark) {
+                    return;
+                }
+            }
+            Scorecard candidate = ScorecardGenerator.create(phrases, size);
+            synchronized (this) {
+                if (generation == startGeneration && fingerprints.add(candidate)) {
+                    addFree(candidate);
+                }
+            }
+        }
+    }
+
+    private void requestRefillIfLow() {
+        boolean low;
+        synchronized (this) {
+            low = freeCount < lowWatermark || freeCount == 0;
+        }
+        if (low && refillQueued.compareAndSet(false, true)) {
+            producer.execute(this::refill);
+        }
+    }
+
+    /**
+     * Builds unique cards on the calling thread and leases them straight to the player. A batch built
+     * while the pool was cleared is thrown away and rebuilt for the new game, as in {@link #fill()}.
+     */
+    private List<Scorecard> generateLeased(UUID playerId, int count) {
+        while (true) {
+            long startGeneration = generation();
+            List<Scorecard> cards = generateReserved(startGeneration, count);
+            synchronized (this) {
+                if (cards != null && generation == startGeneration) {
+                    long now = nanoClock.getAsLong();
+                    for (Scorecard card : cards) {
+                        lease(card, playerId, now);
+                    }
+                    return cards;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds unique cards outside the lock, in parallel for large batches, and reserves their
+     * fingerprints in one pass per batch; duplicates are simply rebuilt in the next batch.
+     *
+     * @return the cards, or {@code null} when the pool was cleared since {@code startGeneration}
+     */
+    private List<Scorecard> generateReserved(long startGeneration, int count) {
+        PhraseDictionary phrases = dictionary.get();
+        int size = cardSize.getAsInt();
+        List<Scorecard> cards = new ArrayList<>(count);
+        while (cards.size() < count) {
+            List<Scorecard> candidates = ScorecardGenerator.createMany(count - cards.size(), phrases, size);
+            synchronized (this) {
+                if (generation != startGeneration) {
+                    return null;
+                }
+                for (Scorecard candidate : candidates) {
+                    if (fingerprints.add(candidate)) {
+                        cards.add(candidate);
+                    }
+                }
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * @return how many times the pool has been cleared; every reset starts a new generation
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    private void addFree(Scorecard card) {
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount] = card;
+        freeIndex.put(card.getId(), freeCount);
+        freeCount++;
+    }
+
+    private Scorecard removeFree(int index) {
+        Scorecard card = free[index];
+        Scorecard last = free[--freeCount];
+        free[index] = last;
+        free[freeCount] = null;
+        freeIndex.put(last.getId(), index);
+        freeIndex.remove(card.getId());
+        return card;
+    }
+
+    private void lease(Scorecard card, UUID playerId, long now) {
+        Lease lease = new Lease(card, playerId, now + leaseNanos);
+        leases.put(card.getId(), lease);
+        leaseExpiry.addLast(lease);
+        if (playerId != null) {
+            leasesByPlayer.computeIfAbsent(playerId, id -> new ArrayList<>()).add(lease);
+        }
+    }
+
+    private void releaseLeases(UUID playerId) {
+        List<Lease> previous = leasesByPlayer.remove(playerId);
+        if (previous == null) {
+            return;
+        }
+        for (Lease lease : previous) {
+            if (lease.active) {
+                lease.active = false;
+                leases.remove(lease.card.getId());
+                addFree(lease.card);
+            }
+        }
+    }
+
+    private void expireLeases(long now) {
+        Lease head;
+        while ((head = leaseExpiry.peekFirst()) != null && (!head.active || head.expiresAtNanos - now <= 0)) {
+            leaseExpiry.pollFirst();
+            if (head.active) {
+                endLease(head);
+                addFree(head.card);
+            }
+        }
+    }
+
+    private void endLease(Lease lease) {
+        lease.active = false;
+        leases.remove(lease.card.getId());
+        if (lease.owner != null) {
+            List<Lease> owned = leasesByPlayer.get(lease.owner);
+            if (owned != null) {
+                owned.remove(lease);
+                if (owned.isEmpty()) {
+                    leasesByPlayer.remove(lease.owner);
+                }
+            }
+        }
+    }
+
+    private static final class Lease {
+        private final Scorecard card;
+        private final UUID owner;
+        private final long expiresAtNanos;
+        private boolean active = true;
+
+        private Lease(Scorecard card, UUID owner, long expiresAtNanos) {
+            this.card = card;
+            this.owner = owner;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.bingo.service;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer event loop for one game. Commands are appended to a queue that is drained by at
+ * most one pooled thread at a time, so the game state is only ever touched by that writer.
+ * A command issued from the writer itself runs inline.
+ */
+final class SerialCommandExecutor implements GameCommandExecutor {
+
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Executor pool;
+    private final GameMetrics metrics;
+    private volatile Thread writer;
+
+    SerialCommandExecutor(Executor pool, GameMetrics metrics) {
+        this.pool = pool;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> command) {
+        if (Thread.currentThread() == writer) {
+            return command.get();
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long queued = System.nanoTime();
+        commands.add(() -> {
+            long started = System.nanoTime();
+            try {
+                result.complete(command.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+            metrics.commandCompleted(operation, started - queued, System.nanoTime() - started);
+        });
+        scheduleDrain();
+        return await(result);
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            pool.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        writer = Thread.currentThread();
+        try {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                command.run();
+            }
+        } finally {
+            writer = null;
+            draining.set(false);
+        }
+        // A command may have been queued after the last poll but before the flag was cleared.
+        if (!commands.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the game", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.bingo.service;
+
+import com.example.bingo.model.ClaimType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The win patterns played on one card size, compiled once when a game is reset.
+ * <p>
+ * A card of up to {@value #MAX_CELLS} cells is marked as two 64-bit words, bit {@code i} of the
+ * pair being row-major cell {@code i} (see {@link com.example.bingo.model.Scorecard#markedWord}).
+ * Each pattern compiles to the word pairs of its alternative layouts, e.g. one per row for
+ * {@link ClaimType#ROW}, so checking a pattern costs two AND-and-compare operations per layout on
+ * any card size.
+ */
+public final class WinPatterns {
+
+    public static final int MAX_CELLS = 2 * Long.SIZE;
+
+    private static final ClaimType[] CLAIM_TYPES = ClaimType.values();
+    private static final long[] NONE = new long[0];
+
+    private final int cardSize;
+    private final Set<ClaimType> types;
+    // Per claim type ordinal: low/high word pairs, one pair per layout; empty when the type is not played.
+    private final long[][] masks = new long[CLAIM_TYPES.length][];
+    // Per claim type ordinal and cell: the pairs of the layouts running through that cell.
+    private final long[][][] masksByCell = new long[CLAIM_TYPES.length][][];
+    // Per claim type ordinal: the cells of each layout.
+    private final int[][][] layouts = new int[CLAIM_TYPES.length][][];
+
+    private WinPatterns(int cardSize, Set<ClaimType> types) {
+        this.cardSize = cardSize;
+        this.types = Collections.unmodifiableSet(EnumSet.copyOf(types));
+        int cells = cardSize * cardSize;
+        for (ClaimType type : CLAIM_TYPES) {
+            int[][] cellLists = types.contains(type) ? layout(type, cardSize) : new int[0][];
+            long[] compiled = compile(cellLists);
+            long[][] byCell = new long[cells][];
+            for (int cell = 0; cell < cells; cell++) {
+                long[] through = new long[compiled.length];
+                int count = 0;
+                for (int pair = 0; pair < compiled.length; pair += 2) {
+                    if ((compiled[pair + (cell >>> 6)] & (1L << cell)) != 0) {
+                        through[count++] = compiled[pair];
+                        through[count++] = compiled[pair + 1];
+                    }
+                }
+                byCell[cell] = count == 0 ? NONE : Arrays.copyOf(through, count);
+            }
+            masks[type.ordinal()] = compiled;
+            masksByCell[type.ordinal()] = byCell;
+            layouts[type.ordinal()] = cellLists;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException when the card size is unsupported or no pattern is given
+     */
+    public static WinPatterns of(int cardSize, Set<ClaimType> types) {
+        if (cardSize < ScorecardGenerator.MIN_CARD_SIZE || cardSize > ScorecardGenerator.MAX_CARD_SIZE) {
+            throw new IllegalArgumentException("Card size must be between %d and %d"
+                    .formatted(ScorecardGenerator.MIN_CARD_SIZE, ScorecardGenerator.MAX_CARD_SIZE));
+        }
+        if (types.isEmpty()) {
+            throw new IllegalArgumentException("At least one win pattern is required");
+        }
+        return new WinPatterns(cardSize, types);
+    }
+
+    /**
+     * Every pattern on the given card size.
+     */
+    public static WinPatterns all(int cardSize) {
+        return of(cardSize, EnumSet.allOf(ClaimType.class));
+    }
+
+    public int getCardSize() {
+        return cardSize;
+    }
+
+    /**
+     * @return the patterns played, in declaration order
+     */
+    public Set<ClaimType> getTypes() {
+        return types;
+    }
+
+    public boolean plays(ClaimType type) {
+        return types.contains(type);
+    }
+
+    public boolean matches(ClaimType type, long markedLow, long markedHigh) {
+        return anyComplete(masks[type.ordinal()], markedLow, markedHigh);
+    }
+
+    /**
+     * Checks only the layouts running through {@code cell}, i.e. whether marking that cell just
+     * completed the pattern.
+     */
+    public boolean completes(ClaimType type, int cell, long markedLow, long markedHigh) {
+        return anyComplete(masksByCell[type.ordinal()][cell], markedLow, markedHigh);
+    }
+
+    /**
+     * @return the row-major cells of each layout of the pattern; empty when it is not played
+     */
+    int[][] layouts(ClaimType type) {
+        return layouts[type.ordinal()];
+    }
+
+    private static boolean anyComplete(long[] pairs, long markedLow, long markedHigh) {
+        for (int pair = 0; pair < pairs.length; pair += 2) {
+            long low = pairs[pair];
+            long high = pairs[pair + 1];
+            if ((markedLow & low) == low && (markedHigh & high) == high) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lays the pattern out on an {@code size x size} card as cell lists, one list per alternative.
+     */
+    private static int[][] layout(ClaimType type, int size) {
+        int last = size - 1;
+        List<int[]> layouts = new ArrayList<>();
+        switch (type) {
+            case ROW -> {
+                for (int row = 0; row < size; row++) {
+                    layouts.add(line(size, row * size, 1));
+                }
+            }
+            case COLUMN -> {
+                for (int col = 0; col < size; col++) {
+                    layouts.add(line(size, col, size));
+                }
+            }
+            case DIAGONAL -> {
+                layouts.add(line(size, 0, size + 1));
+                layouts.add(line(size, last, last));
+            }
+            case FULL_CARD -> layouts.add(line(size * size, 0, 1));
+            case FOUR_CORNERS -> layouts.add(new int[] {0, last, last * size, last * size + last});
+            case X -> layouts.add(concat(line(size, 0, size + 1), line(size, last, last)));
+            // The top row and the centre column, or both centre columns on an even card.
+            case T -> layouts.add(concat(line(size, 0, 1),
+                    line(size, last / 2, size), line(size, size / 2, size)));
+            case FRAME -> layouts.add(concat(line(size, 0, 1), line(size, last * size, 1),
+                    line(size, 0, size), line(size, last, size)));
+        }
+        return layouts.toArray(int[][]::new);
+    }
+
+    private static long[] compile(int[][] layouts) {
+        long[] compiled = new long[layouts.length * 2];
+        for (int layout = 0; layout < layouts.length; layout++) {
+            for (int cell : layouts[layout]) {
+                compiled[layout * 2 + (cell >>> 6)] |= 1L << cell;
+            }
+        }
+        return compiled;
+    }
+
+    private static int[] line(int length, int first, int stride) {
+        int[] cells = new int[length];
+        for (int step = 0; step < length; step++) {
+            cells[step] = first + step * stride;
+        }
+        return cells;
+    }
+
+    private static int[] concat(int[]... lines) {
+        return Arrays.stream(lines).flatMapToInt(Arrays::stream).toArray();
+    }
+}
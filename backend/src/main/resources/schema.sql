@@ -0,0 +1,47 @@
+CREATE TABLE IF NOT EXISTS game (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    room_id VARCHAR(40) NOT NULL,
+    started_at TIMESTAMP(3) WITH TIME ZONE,
+    finished_at TIMESTAMP(3) WITH TIME ZONE NOT NULL,
+    completed BOOLEAN NOT NULL,
+    player_count INT NOT NULL,
+    call_count INT NOT NULL,
+    winner_count INT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS game_call (
+    game_id BIGINT NOT NULL REFERENCES game (id),
+    seq INT NOT NULL,
+    -- Decks refuse phrases longer than PhraseDictionary.MAX_PHRASE_BYTES.
+    phrase VARCHAR(255) NOT NULL,
+    PRIMARY KEY (game_id, seq)
+);
+
+CREATE TABLE IF NOT EXISTS game_winner (
+    game_id BIGINT NOT NULL REFERENCES game (id),
+    seq INT NOT NULL,
+    player_id UUID NOT NULL,
+    player_key VARCHAR(100) NOT NULL,
+    display_name VARCHAR(40) NOT NULL,
+    claim_type VARCHAR(20) NOT NULL,
+    draw_count INT NOT NULL,
+    won_at TIMESTAMP(3) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (game_id, seq)
+);
+
+CREATE INDEX IF NOT EXISTS game_winner_by_player ON game_winner (player_key, game_id DESC);
+
+-- One row per player and claim type, plus an 'ANY' row with the player's totals; maintained
+-- incrementally as games are archived.
+CREATE TABLE IF NOT EXISTS leaderboard (
+    player_key VARCHAR(100) NOT NULL,
+    claim_type VARCHAR(20) NOT NULL,
+    display_name VARCHAR(40) NOT NULL,
+    wins BIGINT NOT NULL,
+    total_draw_count BIGINT NOT NULL,
+    best_draw_count INT NOT NULL,
+    last_won_at TIMESTAMP(3) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (player_key, claim_type)
+);
+
+CREATE INDEX IF NOT EXISTS leaderboard_rank ON leaderboard (claim_type, wins DESC, best_draw_count);
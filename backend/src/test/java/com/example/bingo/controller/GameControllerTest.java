@@ -0,0 +1,185 @@
+package com.example.bingo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.bingo.service.GameArchive;
+import com.example.bingo.service.GameMetrics;
+import com.example.bingo.service.GameRoomRegistry;
+import com.example.bingo.service.GameSettings;
+import com.example.bingo.service.KeywordRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(GameController.class)
+class GameControllerTest {
+
+    private static final String HOST_KEY = "TEAM-HOST-KEY";
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    GameRoomRegistry rooms;
+
+    @TestConfiguration
+    static class Rooms {
+
+        @Bean
+        GameRoomRegistry gameRoomRegistry(ObjectMapper objectMapper) {
+            GameSettings settings = new GameSettings();
+            settings.getPlayers().setMax(3);
+            KeywordRepository keywords = new KeywordRepository(new ByteArrayResource(IntStream.range(0, 40)
+                    .mapToObj(i -> "Keyword " + i)
+                    .collect(Collectors.joining("\n"))
+                    .getBytes(StandardCharsets.UTF_8)));
+            return new GameRoomRegistry(keywords, objectMapper, settings, GameArchive.NONE, GameMetrics.NONE);
+        }
+    }
+
+    @Test
+    void bulkRegistrationEndsWithASummaryLine() throws Exception {
+        MvcResult started = mvc.perform(post("/api/rooms/bulk-ok/players/bulk")
+                        .header("X-Host-Key", HOST_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"displayNames\":[\"Ada\",\"Grace\"]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = body.lines().map(this::parse).toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).get("displayName").asText()).isEqualTo("Ada");
+        JsonNode summary = lines.get(2);
+        assertThat(summary.get("registered").asInt()).isEqualTo(2);
+        assertThat(summary.get("complete").asBoolean()).isTrue();
+    }
+
+    @Test
+    void bulkRegistrationThatCannotFitIsRefusedBeforeStreaming() throws Exception {
+        mvc.perform(post("/api/rooms/bulk-full/players/bulk")
+                        .header("X-Host-Key", HOST_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"displayNames\":[\"A\",\"B\",\"C\",\"D\"]}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("The room is full, try again later"));
+    }
+
+    @Test
+    void plainJsonClientsGetPhrasesWithTheVersionAsETag() throws Exception {
+        long version = rooms.room("json").currentSnapshot().getVersion();
+
+        mvc.perform(get("/api/rooms/json/game/state"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + version + "\""))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$.calledPhrases").isArray())
+                .andExpect(jsonPath("$.calls").doesNotExist());
+        // A client accepting the compact forms as well as JSON still gets JSON.
+        mvc.perform(get("/api/rooms/json/game/state")
+                        .accept(MediaType.APPLICATION_JSON, GameController.COMPACT_JSON, MediaType.APPLICATION_CBOR))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + version + "\""));
+    }
+
+    @Test
+    void compactFormsAreSentOnlyWhenAskedForAndHaveTheirOwnETags() throws Exception {
+        long version = rooms.room("compact").currentSnapshot().getVersion();
+
+        mvc.perform(get("/api/rooms/compact/game/state").accept(GameController.COMPACT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(GameController.COMPACT_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + version + "-compact\""))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$.calls").isArray())
+                .andExpect(jsonPath("$.calledPhrases").doesNotExist());
+        mvc.perform(get("/api/rooms/compact/game/state").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + version + "-cbor\""));
+        // The JSON ETag does not validate a compact representation of the same version.
+        mvc.perform(get("/api/rooms/compact/game/state")
+                        .accept(GameController.COMPACT_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + version + "\""))
+                .andExpect(status().isOk());
+        mvc.perform(get("/api/rooms/compact/game/state")
+                        .accept(GameController.COMPACT_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + version + "-compact\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void unchangedStateAndDeltasAnswerNotModified() throws Exception {
+        long version = rooms.room("delta").currentSnapshot().getVersion();
+        String etag = "\"" + version + "\"";
+
+        mvc.perform(get("/api/rooms/delta/game/state").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mvc.perform(get("/api/rooms/delta/game/state")
+                        .param("since", String.valueOf(version))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        rooms.room("delta").registerPlayer("Ada");
+
+        mvc.perform(get("/api/rooms/delta/game/state")
+                        .param("since", String.valueOf(version))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.playerCount").value(1));
+    }
+
+    @Test
+    void dictionaryIsRevalidatedByItsVersion() throws Exception {
+        String etag = mvc.perform(get("/api/rooms/dictionary/game/dictionary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phrases.length()").value(40))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).isNotBlank();
+        mvc.perform(get("/api/rooms/dictionary/game/dictionary").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
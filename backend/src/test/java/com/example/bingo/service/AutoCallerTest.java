@@ -0,0 +1,69 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.bingo.model.GameStatus;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AutoCallerTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static GameService game() {
+        return GameServiceFixtures.game().boot();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void drawsOnItsOwnUntilTheGameCompletes() throws InterruptedException {
+        GameService game = game();
+        AutoCaller caller = new AutoCaller(game, scheduler, Duration.ofMillis(2), Duration.ofMillis(1));
+        assertThatThrownBy(() -> caller.start(null)).isInstanceOf(IllegalStateException.class);
+        game.startGame();
+
+        caller.start(null);
+
+        await(() -> !caller.isRunning());
+        assertThat(game.getCurrentState().getStatus()).isEqualTo(GameStatus.COMPLETE);
+        assertThat(game.getCurrentState().getCalledPhrases()).hasSize(40);
+        assertThat(caller.status().getState()).isEqualTo("STOPPED");
+    }
+
+    @Test
+    void pauseHoldsDrawsUntilResumed() throws InterruptedException {
+        GameService game = game();
+        AutoCaller caller = new AutoCaller(game, scheduler, Duration.ofMillis(2), Duration.ofMillis(1));
+        game.startGame();
+        caller.start(Duration.ofMillis(5));
+        await(() -> game.getCurrentState().getCalledPhrases().size() >= 2);
+
+        caller.pause();
+        int paused = game.getCurrentState().getCalledPhrases().size();
+        Thread.sleep(50);
+        assertThat(game.getCurrentState().getCalledPhrases()).hasSize(paused);
+        assertThatThrownBy(() -> caller.changeInterval(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+
+        caller.resume();
+        await(() -> game.getCurrentState().getCalledPhrases().size() > paused);
+        game.resetGame(false);
+        await(() -> !caller.isRunning());
+    }
+}
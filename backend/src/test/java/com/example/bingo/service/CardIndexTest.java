@@ -0,0 +1,58 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.PlayerState;
+import com.example.bingo.model.Scorecard;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CardIndexTest {
+
+    private static final PhraseDictionary PHRASES = PhraseDictionary.of(IntStream.range(0, 40)
+            .mapToObj(i -> "Keyword " + i)
+            .toList());
+
+    @Test
+    void removedCardsLeaveEveryPostingListAndTheRestStayIndexed() {
+        CardIndex index = new CardIndex(PHRASES.size());
+        List<PlayerState> players = new ArrayList<>();
+        for (Scorecard card : ScorecardGenerator.createMany(300, PHRASES, 5)) {
+            PlayerState player = new PlayerState(UUID.randomUUID(), "Player", Instant.now());
+            player.setScorecard(card);
+            index.add(player, card, new BitSet());
+            players.add(player);
+        }
+        Collections.shuffle(players, new Random(7));
+        List<PlayerState> removed = players.subList(0, 200);
+        removed.forEach(player -> index.remove(player.getId()));
+        List<PlayerState> kept = players.subList(200, players.size());
+
+        Map<UUID, BitSet> hits = new HashMap<>();
+        int[] hitCount = new int[1];
+        for (int phraseId = 0; phraseId < PHRASES.size(); phraseId++) {
+            int called = phraseId;
+            index.mark(phraseId, (owner, cell, low, high, awarded) -> {
+                assertThat(owner.getScorecard().phraseIdAt(cell)).isEqualTo(called);
+                hits.computeIfAbsent(owner.getId(), id -> new BitSet()).set(cell);
+                hitCount[0]++;
+            });
+        }
+
+        assertThat(index.size()).isEqualTo(kept.size());
+        assertThat(hits.keySet()).containsExactlyInAnyOrderElementsOf(kept.stream().map(PlayerState::getId).toList());
+        // Every cell but the free space was hit exactly once.
+        assertThat(hits.values()).allSatisfy(cells -> assertThat(cells.cardinality()).isEqualTo(24));
+        assertThat(hitCount[0]).isEqualTo(24 * kept.size());
+    }
+}
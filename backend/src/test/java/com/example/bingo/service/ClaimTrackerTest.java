@@ -0,0 +1,97 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.bingo.model.ClaimEvaluation;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PlayerState;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ClaimTrackerTest {
+
+    @Test
+    void throttleAllowsABurstThenOneClaimPerInterval() {
+        ClaimTracker tracker = new ClaimTracker(Duration.ofSeconds(1), 3);
+        UUID player = UUID.randomUUID();
+        long now = System.nanoTime();
+        for (int claim = 0; claim < 3; claim++) {
+            tracker.acquire(player, now);
+        }
+
+        assertThatThrownBy(() -> tracker.acquire(player, now))
+                .isInstanceOfSatisfying(RateLimitedException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(1)));
+        assertThatCode(() -> tracker.acquire(UUID.randomUUID(), now)).doesNotThrowAnyException();
+        assertThatCode(() -> tracker.acquire(player, now + Duration.ofSeconds(1).toNanos())).doesNotThrowAnyException();
+        assertThatThrownBy(() -> tracker.acquire(player, now + Duration.ofSeconds(1).toNanos()))
+                .isInstanceOf(RateLimitedException.class);
+
+        ClaimTracker unthrottled = new ClaimTracker(Duration.ZERO, 1);
+        assertThatCode(() -> IntStream.range(0, 100).forEach(claim -> unthrottled.acquire(player, now)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void repeatedRejectionsSkipTheGameUntilTheNextDraw() {
+        List<String> commands = new ArrayList<>();
+        GameMetrics recorder = new GameMetrics() {
+            @Override
+            public void commandCompleted(String operation, long waitNanos, long holdNanos) {
+                commands.add(operation);
+            }
+        };
+        GameSettings settings = new GameSettings();
+        settings.getClaims().setInterval(Duration.ZERO);
+        GameService game = GameServiceFixtures.game()
+                .settings(settings)
+                .commands(GameCommandExecutor.locking(recorder))
+                .metrics(recorder)
+                .boot();
+        PlayerState player = game.registerPlayer("Ada");
+        game.assignScorecard(player.getId(), game.previewScorecards(player.getId(), 1).get(0).getId());
+        game.startGame();
+        commands.clear();
+
+        for (int claim = 0; claim < 5; claim++) {
+            assertThat(game.claimWin(player.getId(), ClaimType.FULL_CARD).isAccepted()).isFalse();
+        }
+        assertThat(commands).containsExactly("claim");
+
+        game.drawNextNumber();
+        game.claimWin(player.getId(), ClaimType.FULL_CARD);
+        assertThat(commands).containsExactly("claim", "draw", "claim");
+
+        while (game.getCurrentState().getRemainingCalls() > 0) {
+            game.drawNextNumber();
+        }
+        commands.clear();
+        assertThat(game.claimWin(player.getId(), ClaimType.FULL_CARD).isAccepted()).isTrue();
+        ClaimEvaluation repeated = game.claimWin(player.getId(), ClaimType.FULL_CARD);
+        assertThat(repeated.isAccepted()).isFalse();
+        assertThat(repeated.getMessage()).isEqualTo("Claim already recorded");
+        assertThat(repeated.getWinners()).hasSize(1);
+        assertThat(commands).containsExactly("claim");
+    }
+
+    @Test
+    void claimsOverTheRateAreRefused() {
+        GameSettings settings = new GameSettings();
+        settings.getClaims().setInterval(Duration.ofMinutes(1));
+        settings.getClaims().setBurst(2);
+        GameService game = GameServiceFixtures.game().settings(settings).boot();
+        PlayerState player = game.registerPlayer("Ada");
+
+        game.claimWin(player.getId(), ClaimType.ROW);
+        game.claimWin(player.getId(), ClaimType.COLUMN);
+        assertThatThrownBy(() -> game.claimWin(player.getId(), ClaimType.ROW)).isInstanceOf(RateLimitedException.class);
+        assertThatThrownBy(() -> game.claimWin(UUID.randomUUID(), ClaimType.ROW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
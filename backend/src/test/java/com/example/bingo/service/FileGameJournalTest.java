@@ -0,0 +1,170 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.bingo.dto.GameStateResponse;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PlayerState;
+import com.example.bingo.model.Winner;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+
+class FileGameJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<FileGameJournal> journals = new ArrayList<>();
+
+    private GameService open(Path file) {
+        return open(file, GameServiceFixtures.KEYWORDS);
+    }
+
+    private GameService open(Path file, KeywordRepository keywords) {
+        // What the store's flusher would have written by the time the process restarts.
+        flush();
+        GameSettings settings = new GameSettings();
+        settings.setAutoAdjudicate(true);
+        FileGameJournal journal = new FileGameJournal(file, keywords::findDictionary);
+        journals.add(journal);
+        GameService service = GameServiceFixtures.game()
+                .keywords(keywords)
+                .settings(settings)
+                .journal(journal)
+                .boot();
+        return service;
+    }
+
+    private void flush() {
+        journals.forEach(FileGameJournal::flush);
+    }
+
+    private static List<PlayerState> join(GameService service, int count) {
+        List<PlayerState> players = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            PlayerState player = service.registerPlayer("Player " + index);
+            String cardId = service.previewScorecards(player.getId(), 1).get(0).getId();
+            players.add(service.assignScorecard(player.getId(), cardId));
+        }
+        return players;
+    }
+
+    @Test
+    void replayRebuildsTheSameGame() {
+        Path file = directory.resolve("room.journal");
+        GameService original = open(file);
+        original.resetGame(false, null, 4, EnumSet.of(ClaimType.ROW, ClaimType.FOUR_CORNERS));
+        List<PlayerState> players = join(original, 5);
+        original.startGame();
+        for (int draw = 0; draw < 25; draw++) {
+            original.drawNextNumber();
+        }
+        GameStateResponse before = original.getCurrentState();
+
+        GameService recovered = open(file);
+        GameStateResponse after = recovered.getCurrentState();
+
+        assertThat(after.getStatus()).isEqualTo(before.getStatus());
+        assertThat(after.getCardSize()).isEqualTo(4);
+        assertThat(after.getPatterns()).containsExactly(ClaimType.ROW, ClaimType.FOUR_CORNERS);
+        assertThat(after.getCalledPhrases()).containsExactlyElementsOf(before.getCalledPhrases());
+        assertThat(after.getRemainingCalls()).isEqualTo(before.getRemainingCalls());
+        assertThat(after.getPlayerCount()).isEqualTo(players.size());
+        assertThat(after.getWinners()).extracting(Winner::getPlayerId, Winner::getClaimType, Winner::getTimestamp)
+                .containsExactlyElementsOf(before.getWinners().stream()
+                        .map(winner -> tuple(winner.getPlayerId(), winner.getClaimType(), winner.getTimestamp()))
+                        .toList());
+        for (PlayerState player : players) {
+            PlayerState restored = recovered.getPlayer(player.getId());
+            assertThat(restored.getDisplayName()).isEqualTo(player.getDisplayName());
+            assertThat(restored.getScorecard().getRows()).isEqualTo(player.getScorecard().getRows());
+        }
+        assertThat(recovered.drawNextNumber().getCurrentCall()).isEqualTo(original.drawNextNumber().getCurrentCall());
+    }
+
+    @Test
+    void tornTailIsCutOffAndLaterEventsStillReplay() throws IOException {
+        Path file = directory.resolve("room.journal");
+        GameService original = open(file);
+        PlayerState player = join(original, 1).get(0);
+        flush();
+        Files.write(file, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        GameService recovered = open(file);
+        assertThat(recovered.getPlayer(player.getId()).getScorecard()).isNotNull();
+        recovered.startGame();
+        recovered.claimWin(player.getId(), ClaimType.ROW);
+        String call = recovered.drawNextNumber().getCurrentCall();
+
+        assertThat(open(file).getCurrentState().getCalledPhrases()).containsExactly(call);
+    }
+
+    @Test
+    void hardResetCompactsTheJournal() throws IOException {
+        Path file = directory.resolve("room.journal");
+        GameService service = open(file);
+        join(service, 20);
+        flush();
+        long populated = Files.size(file);
+
+        service.resetGame(true);
+        flush();
+
+        assertThat(Files.size(file)).isLessThan(populated / 4);
+        assertThat(open(file).getCurrentState().getPlayerCount()).isZero();
+    }
+
+    @Test
+    void appendsAreWrittenBehindInBatches() throws IOException {
+        Path file = directory.resolve("room.journal");
+        GameService service = open(file);
+        flush();
+        long booted = Files.size(file);
+
+        join(service, 3);
+        service.startGame();
+        assertThat(Files.size(file)).isEqualTo(booted);
+
+        flush();
+        assertThat(Files.size(file)).isGreaterThan(booted);
+        service.resetGame(true);
+        service.registerPlayer("Ada");
+        flush();
+
+        assertThat(open(file).getCurrentState().getPlayerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void journalOfAChangedDeckIsSetAsideInsteadOfReplayed() throws IOException {
+        Path file = directory.resolve("room.journal");
+        GameService original = open(file);
+        join(original, 3);
+        original.startGame();
+        original.drawNextNumber();
+
+        KeywordRepository reworded = new KeywordRepository(new ByteArrayResource(
+                IntStream.range(0, 40)
+                        .mapToObj(i -> "Phrase " + i)
+                        .collect(Collectors.joining("\n"))
+                        .getBytes(StandardCharsets.UTF_8)));
+        GameService recovered = open(file, reworded);
+
+        assertThat(recovered.getCurrentState().getPlayerCount()).isZero();
+        assertThat(recovered.getCurrentState().getCalledPhrases()).isEmpty();
+        assertThat(directory.resolve("room.journal.stale")).exists();
+        recovered.registerPlayer("Ada");
+        assertThat(open(file, reworded).getCurrentState().getPlayerCount()).isEqualTo(1);
+    }
+}
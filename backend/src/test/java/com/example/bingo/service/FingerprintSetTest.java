@@ -0,0 +1,38 @@
+package com.example.bingo.service;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class FingerprintSetTest {
+
+    @Test
+    void behavesLikeAHashSetUnderRandomChurn() {
+        Random random = new Random(42);
+        FingerprintSet set = new FingerprintSet();
+        Set<List<Long>> expected = new HashSet<>();
+        List<long[]> known = new ArrayList<>();
+        known.add(new long[] {0, 0});
+        for (int step = 0; step < 50_000; step++) {
+            long[] key = known.size() < 2_000 || random.nextBoolean()
+                    ? new long[] {random.nextInt(64) == 0 ? 0 : random.nextLong(), random.nextLong()}
+                    : known.get(random.nextInt(known.size()));
+            known.add(key);
+            List<Long> boxed = List.of(key[0], key[1]);
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(key[0], key[1])).isEqualTo(expected.remove(boxed));
+            } else {
+                assertThat(set.add(key[0], key[1])).isEqualTo(expected.add(boxed));
+            }
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long[] key : known) {
+            assertThat(set.remove(key[0], key[1])).isEqualTo(expected.remove(List.of(key[0], key[1])));
+        }
+        assertThat(set.size()).isZero();
+    }
+}
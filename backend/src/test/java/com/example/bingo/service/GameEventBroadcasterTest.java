@@ -0,0 +1,31 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class GameEventBroadcasterTest {
+
+    @Test
+    void subscriberIsRegisteredBeforeItsFirstStateIsRead() {
+        GameService game = GameServiceFixtures.game().boot();
+        AtomicInteger flushes = new AtomicInteger();
+        GameEventBroadcaster broadcaster = new GameEventBroadcaster(new ObjectMapper(), command -> {
+            flushes.incrementAndGet();
+            command.run();
+        }, 60_000);
+
+        broadcaster.subscribe(() -> {
+            // A change landing while the subscriber reads its first state must still be fanned out.
+            assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+            game.startGame();
+            broadcaster.publish(game.currentSnapshot());
+            return game.currentSnapshot();
+        });
+
+        assertThat(flushes).hasValue(1);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.bingo.service;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.bingo.dto.ArchivedWinResponse;
+import com.example.bingo.dto.LeaderboardEntryResponse;
+import com.example.bingo.dto.PlayerHistoryResponse;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.Winner;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class GameHistoryServiceTest {
+
+    private EmbeddedDatabase database;
+    private GameHistoryService history;
+
+    @BeforeEach
+    void openDatabase() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        history = new GameHistoryService(
+                new JdbcTemplate(database),
+                new TransactionTemplate(new DataSourceTransactionManager(database)),
+                Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    void closeDatabase() {
+        database.shutdown();
+    }
+
+    private static FinishedGame game(Winner... winners) {
+        Instant now = Instant.now();
+        return new FinishedGame(now.minusSeconds(600), now, true, 12, List.of("Alpha", "Beta", "Gamma"), List.of(winners));
+    }
+
+    private static Winner win(String name, ClaimType type, int drawCount) {
+        return new Winner(UUID.randomUUID(), name, type, drawCount, Instant.now());
+    }
+
+    @Test
+    void aggregatesWinsIncrementallyAcrossGames() throws InterruptedException {
+        history.archive("default", game(win("Ada", ClaimType.ROW, 9), win("Bob", ClaimType.ROW, 11)));
+        history.archive("default", game(win("ada", ClaimType.ROW, 7), win("Ada", ClaimType.FULL_CARD, 30)));
+        history.archive("team-b", game(win("Bob", ClaimType.COLUMN, 12)));
+        history.shutdown();
+
+        List<LeaderboardEntryResponse> rows = history.leaderboard(ClaimType.ROW, 10);
+        assertThat(rows).extracting(LeaderboardEntryResponse::getDisplayName, LeaderboardEntryResponse::getWins)
+                .containsExactly(tuple("ada", 2L), tuple("Bob", 1L));
+        assertThat(rows.get(0).getBestDrawCount()).isEqualTo(7);
+        assertThat(rows.get(0).getAverageDrawCount()).isEqualTo(8.0);
+
+        assertThat(history.leaderboard(null, 1)).singleElement()
+                .satisfies(top -> assertThat(top.getWins()).isEqualTo(3));
+
+        PlayerHistoryResponse bob = history.playerHistory("BOB", 10);
+        assertThat(bob.getTotals()).extracting(LeaderboardEntryResponse::getClaimType)
+                .containsExactly("ANY", "COLUMN", "ROW");
+        assertThat(bob.getRecentWins()).extracting(ArchivedWinResponse::getRoomId).containsExactly("team-b", "default");
+
+        long latest = history.recentGames(1).get(0).getGameId();
+        assertThat(history.game(latest).getCalledPhrases()).containsExactly("Alpha", "Beta", "Gamma");
+        assertThatThrownBy(() -> history.playerHistory("Nobody", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.bingo.model.PlayerState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameRoomRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private static GameRoomRegistry registry(Duration idleTimeout) {
+        return registry(new GameSettings(), idleTimeout);
+    }
+
+    private static GameRoomRegistry registry(GameSettings settings, Duration idleTimeout) {
+        settings.getRooms().setIdleTimeout(idleTimeout);
+        settings.getRooms().setMax(3);
+        return new GameRoomRegistry(GameServiceFixtures.KEYWORDS, new ObjectMapper(), settings, GameArchive.NONE, GameMetrics.NONE);
+    }
+
+    @Test
+    void keepsRoomsIndependent() {
+        GameRoomRegistry rooms = registry(Duration.ofHours(1));
+        rooms.room("alpha").registerPlayer("Ada");
+
+        assertThat(rooms.room("alpha").getCurrentState().getPlayerCount()).isEqualTo(1);
+        assertThat(rooms.room("beta").getCurrentState().getPlayerCount()).isZero();
+        assertThat(rooms.room(null)).isSameAs(rooms.room(GameRoomRegistry.DEFAULT_ROOM));
+        assertThatThrownBy(() -> rooms.room("gamma")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> rooms.room("bad room")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void evictsIdleRoomsButKeepsDefault() {
+        GameRoomRegistry rooms = registry(Duration.ZERO);
+        rooms.room("alpha");
+
+        rooms.evictIdleRooms();
+
+        assertThat(rooms.roomCount()).isEqualTo(1);
+        assertThat(rooms.room(null)).isNotNull();
+    }
+
+    @Test
+    void instancesSharingAJournalDirectoryHandRoomsOverOnEviction() {
+        GameSettings settings = new GameSettings();
+        settings.getJournal().setEnabled(true);
+        settings.getJournal().setDirectory(directory);
+        GameRoomRegistry first = registry(settings, Duration.ZERO);
+        GameRoomRegistry second = registry(settings, Duration.ZERO);
+        try {
+            GameService alpha = first.room("alpha");
+            PlayerState ada = alpha.registerPlayer("Ada");
+            first.room(null).registerPlayer("Grace");
+
+            assertThatThrownBy(() -> second.room("alpha")).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> second.room(null)).isInstanceOf(IllegalStateException.class);
+            assertThat(second.room("beta").getCurrentState().getPlayerCount()).isZero();
+
+            first.evictIdleRooms();
+
+            assertThat(second.room("alpha").getPlayer(ada.getId()).getDisplayName()).isEqualTo("Ada");
+            assertThat(second.room(null).getCurrentState().getPlayerCount()).isEqualTo(1);
+            // A request still holding the evicted game cannot write to the journal it gave up.
+            assertThatThrownBy(() -> alpha.registerPlayer("Linus")).isInstanceOf(IllegalStateException.class);
+            assertThat(second.room("alpha").getCurrentState().getPlayerCount()).isEqualTo(1);
+        } finally {
+            first.shutdown();
+            second.shutdown();
+        }
+    }
+
+    @Test
+    void defaultRoomIsOpenedOnFirstUseWithADurableStore() {
+        GameSettings settings = new GameSettings();
+        settings.getJournal().setEnabled(true);
+        settings.getJournal().setDirectory(directory);
+        GameRoomRegistry first = registry(settings, Duration.ZERO);
+        GameRoomRegistry second = registry(settings, Duration.ZERO);
+        try {
+            assertThat(first.roomCount()).isZero();
+
+            second.room(null).registerPlayer("Ada");
+
+            assertThatThrownBy(() -> first.room(null)).isInstanceOf(IllegalStateException.class);
+            second.evictIdleRooms();
+            assertThat(first.room(null).getCurrentState().getPlayerCount()).isEqualTo(1);
+        } finally {
+            first.shutdown();
+            second.shutdown();
+        }
+    }
+
+    @Test
+    void defaultRoomIsKeptWithoutADurableStore() {
+        GameRoomRegistry rooms = registry(Duration.ZERO);
+        rooms.room(null).registerPlayer("Ada");
+
+        rooms.evictIdleRooms();
+
+        assertThat(rooms.room(null).getCurrentState().getPlayerCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.bingo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.core.io.ByteArrayResource;
+
+/**
+ * Builds the games of the service tests: on {@link #KEYWORDS} and the default settings, in memory,
+ * with a locking executor, the card pool refilled on the calling thread and nothing listening.
+ * Each setter replaces one of those.
+ */
+final class GameServiceFixtures {
+
+    /** Deck of the 40 phrases {@code Keyword 0} to {@code Keyword 39}. */
+    static final KeywordRepository KEYWORDS = keywords(40);
+
+    private KeywordRepository keywords = KEYWORDS;
+    private GameSettings settings = new GameSettings();
+    private GameCommandExecutor commands = GameCommandExecutor.locking();
+    private GameJournal journal = GameJournal.NONE;
+    private GameMetrics metrics = GameMetrics.NONE;
+    private Consumer<FinishedGame> archive = finished -> { };
+
+    private GameServiceFixtures() {
+    }
+
+    static GameServiceFixtures game() {
+        return new GameServiceFixtures();
+    }
+
+    /**
+     * @return a deck of the phrases {@code Keyword 0} to {@code Keyword <count - 1>}
+     */
+    static KeywordRepository keywords(int count) {
+        String lines = IntStream.range(0, count)
+                .mapToObj(i -> "Keyword " + i)
+                .collect(Collectors.joining("\n"));
+        return new KeywordRepository(new ByteArrayResource(lines.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    GameServiceFixtures keywords(KeywordRepository keywords) {
+        this.keywords = keywords;
+        return this;
+    }
+
+    GameServiceFixtures settings(GameSettings settings) {
+        this.settings = settings;
+        return this;
+    }
+
+    GameServiceFixtures commands(GameCommandExecutor commands) {
+        this.commands = commands;
+        return this;
+    }
+
+    GameServiceFixtures journal(GameJournal journal) {
+        this.journal = journal;
+        return this;
+    }
+
+    GameServiceFixtures metrics(GameMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    GameServiceFixtures archive(Consumer<FinishedGame> archive) {
+        this.archive = archive;
+        return this;
+    }
+
+    GameService build() {
+        return new GameService(keywords, settings, commands, journal, metrics, Runnable::run, state -> { }, archive);
+    }
+
+    /**
+     * @return the built game, booted and so replayed from its journal
+     */
+    GameService boot() {
+        GameService game = build();
+        game.boot();
+        return game;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.bingo.service;
+
+import static com.example.bingo.service.GameServiceFixtures.game;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.bingo.dto.CompactGameStateResponse;
+import com.example.bingo.dto.DrawNumberResponse;
+import com.example.bingo.dto.GameStateDeltaResponse;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.GameStatus;
+import com.example.bingo.model.PlayerState;
+import com.example.bingo.model.Scorecard;
+import com.example.bingo.model.Winner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class GameServiceTest {
+
+    private static GameSettings autoAdjudicating() {
+        GameSettings settings = new GameSettings();
+        settings.setAutoAdjudicate(true);
+        return settings;
+    }
+
+    private static PlayerState joinWithCard(GameService service, String name) {
+        PlayerState player = service.registerPlayer(name);
+        String cardId = service.previewScorecards(player.getId(), 1).get(0).getId();
+        return service.assignScorecard(player.getId(), cardId);
+    }
+
+    @Test
+    void acceptsManualClaimOnlyOnceSquaresAreCalled() {
+        GameService service = game().boot();
+        PlayerState player = joinWithCard(service, "Ada");
+        service.startGame();
+
+        assertThat(service.claimWin(player.getId(), ClaimType.ROW).isAccepted()).isFalse();
+        while (service.getCurrentState().getRemainingCalls() > 0) {
+            assertThat(service.drawNextNumber().getNewWinners()).isEmpty();
+        }
+        assertThat(service.claimWin(player.getId(), ClaimType.FULL_CARD).isAccepted()).isTrue();
+        assertThat(service.claimWin(player.getId(), ClaimType.FULL_CARD).getMessage())
+                .isEqualTo("Claim already recorded");
+    }
+
+    @Test
+    void autoAdjudicatesEveryPatternAsItCompletes() {
+        GameSettings settings = autoAdjudicating();
+        settings.getCard().setPatterns(EnumSet.allOf(ClaimType.class));
+        GameService service = game().settings(settings).boot();
+        PlayerState first = joinWithCard(service, "Ada");
+        PlayerState second = joinWithCard(service, "Grace");
+        service.startGame();
+
+        List<Winner> reported = new ArrayList<>();
+        while (service.getCurrentState().getStatus() == GameStatus.IN_PROGRESS) {
+            DrawNumberResponse response = service.drawNextNumber();
+            reported.addAll(response.getNewWinners());
+        }
+
+        assertThat(reported).hasSize(2 * ClaimType.values().length);
+        assertThat(service.getCurrentState().getWinners()).hasSize(2 * ClaimType.values().length);
+        for (PlayerState player : List.of(first, second)) {
+            assertThat(reported)
+                    .filteredOn(winner -> winner.getPlayerId().equals(player.getId()))
+                    .extracting(Winner::getClaimType)
+                    .containsExactlyInAnyOrder(ClaimType.values());
+        }
+        assertThat(service.claimWin(first.getId(), ClaimType.ROW).getMessage()).isEqualTo("Claim already recorded");
+    }
+
+    @Test
+    void resetChoosesTheCardSizeAndPatternsOfTheNextGame() {
+        GameService service = game().settings(autoAdjudicating()).boot();
+        assertThat(service.getCurrentState().getCardSize()).isEqualTo(5);
+        assertThat(service.getCurrentState().getPatterns())
+                .containsExactly(ClaimType.ROW, ClaimType.COLUMN, ClaimType.DIAGONAL, ClaimType.FULL_CARD);
+
+        service.resetGame(false, null, 6, EnumSet.of(ClaimType.FOUR_CORNERS, ClaimType.FRAME));
+        PlayerState player = joinWithCard(service, "Ada");
+        assertThat(player.getScorecard().getRows()).hasSize(6)
+                .allSatisfy(row -> assertThat(row).hasSize(6).doesNotContain(Scorecard.FREE_SPACE));
+        assertThat(service.getCurrentState().getPatterns())
+                .containsExactly(ClaimType.FOUR_CORNERS, ClaimType.FRAME);
+        assertThatThrownBy(() -> service.claimWin(player.getId(), ClaimType.ROW))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        service.startGame();
+        List<Winner> reported = new ArrayList<>();
+        while (service.getCurrentState().getStatus() == GameStatus.IN_PROGRESS) {
+            reported.addAll(service.drawNextNumber().getNewWinners());
+        }
+        assertThat(reported).extracting(Winner::getClaimType).containsExactly(ClaimType.FOUR_CORNERS, ClaimType.FRAME);
+
+        assertThatThrownBy(() -> service.resetGame(false, null, 9, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("a 9x9 card needs 80");
+        service.resetGame(false);
+        assertThat(service.getCurrentState().getCardSize()).isEqualTo(6);
+    }
+
+    @Test
+    void returnsOnlyChangesSinceAKnownVersion() {
+        GameService service = game().boot();
+        long started = service.startGame().getVersion();
+        String first = service.drawNextNumber().getCurrentCall();
+        long afterFirst = service.getCurrentState().getVersion();
+        String second = service.drawNextNumber().getCurrentCall();
+
+        GameStateDeltaResponse delta = service.getStateSince(afterFirst);
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getNewCalls()).containsExactly(second);
+        assertThat(service.getStateSince(started).getNewCalls()).containsExactly(first, second);
+        assertThat(service.getStateSince(service.getCurrentState().getVersion()).getNewCalls()).isEmpty();
+
+        service.resetGame(false);
+        GameStateDeltaResponse afterReset = service.getStateSince(afterFirst);
+        assertThat(afterReset.isFull()).isTrue();
+        assertThat(afterReset.getVersion()).isGreaterThan(afterFirst);
+    }
+
+    @Test
+    void publishedSnapshotsKeepTheirDeltasAfterTheNextGame() {
+        GameService service = game().settings(autoAdjudicating()).boot();
+        joinWithCard(service, "Ada");
+        joinWithCard(service, "Grace");
+        long started = service.startGame().getVersion();
+        while (service.getCurrentState().getWinners().size() < 2) {
+            service.drawNextNumber();
+        }
+        GameStateSnapshot snapshot = service.currentSnapshot();
+        List<List<Winner>> deltas = new ArrayList<>();
+        for (long since = started; since <= snapshot.getVersion(); since++) {
+            deltas.add(snapshot.since(since).getNewWinners());
+        }
+
+        service.resetGame(true);
+        joinWithCard(service, "Linus");
+        joinWithCard(service, "Barbara");
+        service.startGame();
+        while (service.getCurrentState().getWinners().isEmpty()) {
+            service.drawNextNumber();
+        }
+
+        for (long since = started; since <= snapshot.getVersion(); since++) {
+            assertThat(snapshot.since(since).getNewWinners()).isEqualTo(deltas.get((int) (since - started)));
+        }
+    }
+
+    @Test
+    void compactStateCarriesPhraseIdsOfTheSameCalls() {
+        GameService service = game().boot();
+        service.startGame();
+        service.drawNextNumber();
+        long afterFirst = service.getCurrentState().getVersion();
+        service.drawNextNumber();
+        service.drawNextNumber();
+
+        GameStateSnapshot snapshot = service.currentSnapshot();
+        CompactGameStateResponse compact = snapshot.toCompact();
+        assertThat(compact.getDictionaryVersion()).isEqualTo(snapshot.getDictionary().version());
+        assertThat(Arrays.stream(compact.getCalls()).mapToObj(snapshot.getDictionary()::phrase).toList())
+                .containsExactlyElementsOf(snapshot.getState().getCalledPhrases());
+        assertThat(snapshot.getDictionary().phrase(compact.getCurrentCall()))
+                .isEqualTo(snapshot.getState().getCurrentCall());
+        assertThat(snapshot.toCompactSince(afterFirst).getCalls())
+                .containsExactly(compact.getCalls()[1], compact.getCalls()[2]);
+        assertThat(snapshot.toCompactSince(afterFirst).isFull()).isFalse();
+
+        service.resetGame(false);
+        assertThat(service.currentSnapshot().toCompact().getCalls()).isEmpty();
+        assertThat(service.currentSnapshot().toCompact().getCurrentCall()).isNull();
+    }
+
+    @Test
+    void archivesCompletedGamesOnceAndAbandonedGamesOnReset() {
+        List<FinishedGame> archived = new ArrayList<>();
+        GameService service = game().settings(autoAdjudicating()).archive(archived::add).boot();
+        joinWithCard(service, "Ada");
+        service.resetGame(false);
+        assertThat(archived).isEmpty();
+
+        joinWithCard(service, "Grace");
+        service.startGame();
+        while (service.getCurrentState().getStatus() == GameStatus.IN_PROGRESS) {
+            service.drawNextNumber();
+        }
+        service.drawNextNumber();
+        assertThat(archived).singleElement().satisfies(game -> {
+            assertThat(game.isCompleted()).isTrue();
+            assertThat(game.getWinners()).extracting(Winner::getDrawCount).allMatch(count -> count > 0);
+        });
+
+        service.startGame();
+        service.drawNextNumber();
+        service.resetGame(false);
+        assertThat(archived).hasSize(2);
+        assertThat(archived.get(1).isCompleted()).isFalse();
+        assertThat(archived.get(1).getCalledPhrases()).hasSize(1);
+    }
+
+    @Test
+    void registersPlayersInBulkWithUniqueCards() {
+        GameService service = game().boot();
+        List<String> names = new ArrayList<>(Collections.nCopies(2_000, (String) null));
+        names.set(0, "  Ada ");
+
+        List<PlayerState> players = service.registerPlayersWithCards(names);
+
+        assertThat(players).hasSize(2_000);
+        assertThat(players.get(0).getDisplayName()).isEqualTo("Ada");
+        assertThat(players.get(1).getDisplayName()).isEqualTo("Player-2");
+        assertThat(players).extracting(player -> player.getScorecard().getId()).doesNotHaveDuplicates();
+        assertThat(players).extracting(player -> player.getScorecard().getRows()).doesNotHaveDuplicates();
+        assertThat(service.getCurrentState().getPlayerCount()).isEqualTo(2_000);
+    }
+
+    @Test
+    void bulkRegistrationRetakesCardsWhenAResetChangesTheCardSize() {
+        GameCommandExecutor locking = GameCommandExecutor.locking();
+        GameService[] service = new GameService[1];
+        boolean[] reset = new boolean[1];
+        // The host resets onto 4x4 cards after the bulk cards were taken but before they are assigned.
+        GameCommandExecutor commands = new GameCommandExecutor() {
+            @Override
+            public <T> T execute(String operation, Supplier<T> command) {
+                if (operation.equals("register_bulk") && !reset[0]) {
+                    reset[0] = true;
+                    service[0].resetGame(false, null, 4, null);
+                }
+                return locking.execute(operation, command);
+            }
+        };
+        service[0] = game().commands(commands).boot();
+
+        List<PlayerState> players = service[0].registerPlayersWithCards(List.of("Ada", "Grace"));
+
+        assertThat(players).extracting(player -> player.getScorecard().getSize()).containsOnly(4);
+        assertThat(service[0].getCurrentState().getCardSize()).isEqualTo(4);
+    }
+
+    @Test
+    void bulkRegistrationRetakesCardsWhenAResetKeepsTheDeckAndSize() {
+        GameCommandExecutor locking = GameCommandExecutor.locking();
+        GameService[] service = new GameService[1];
+        int[] attempts = new int[1];
+        // The reset forgets the fingerprints of the cards already taken, so they must not be seated.
+        GameCommandExecutor commands = new GameCommandExecutor() {
+            @Override
+            public <T> T execute(String operation, Supplier<T> command) {
+                if (operation.equals("register_bulk") && attempts[0]++ == 0) {
+                    service[0].resetGame(false);
+                }
+                return locking.execute(operation, command);
+            }
+        };
+        service[0] = game().commands(commands).boot();
+
+        List<PlayerState> players = service[0].registerPlayersWithCards(List.of("Ada", "Grace"));
+
+        assertThat(attempts[0]).isEqualTo(2);
+        assertThat(players).hasSize(2).allSatisfy(player -> assertThat(player.getScorecard()).isNotNull());
+    }
+}
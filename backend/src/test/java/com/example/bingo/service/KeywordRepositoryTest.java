@@ -0,0 +1,118 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.PlayerState;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+
+class KeywordRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private static String lines(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + " " + i).collect(Collectors.joining("\n"));
+    }
+
+    private KeywordRepository repository() {
+        GameSettings settings = new GameSettings();
+        settings.getDecks().setDirectory(directory);
+        settings.getDecks().setWatch(false);
+        return new KeywordRepository(
+                new ByteArrayResource(lines("Keyword", 40).getBytes(StandardCharsets.UTF_8)), settings);
+    }
+
+    @Test
+    void parsingTrimsLinesAndKeepsTheFirstOfRepeatedPhrases() {
+        byte[] text = "﻿  Synergy \r\n\nPivot\nSynergy\n Café au lait".getBytes(StandardCharsets.UTF_8);
+
+        PhraseDictionary dictionary = PhraseDictionary.parse(ByteBuffer.wrap(text));
+
+        assertThat(dictionary.phrases()).containsExactly("Synergy", "Pivot", "Café au lait");
+        assertThat(dictionary.idOf("Pivot")).isEqualTo(1);
+        assertThat(dictionary.idOf("Café au lait")).isEqualTo(2);
+        assertThat(dictionary.idOf("Leverage")).isEqualTo(-1);
+        assertThat(dictionary.checksum()).isEqualTo(PhraseDictionary.of(dictionary.phrases()).checksum());
+    }
+
+    @Test
+    void loadsDeckFilesAndIgnoresDecksTooSmallForACard() throws IOException {
+        Files.writeString(directory.resolve("holiday.txt"), lines("Holiday", 30));
+        Files.writeString(directory.resolve("tiny.txt"), lines("Tiny", 5));
+
+        KeywordRepository keywords = repository();
+
+        assertThat(keywords.decks()).extracting(Deck::getName).containsExactly("default", "holiday");
+        assertThat(keywords.deck("holiday").getDictionary().phrase(0)).isEqualTo("Holiday 0");
+        assertThat(keywords.deck("default").getSource()).isNull();
+        assertThatThrownBy(() -> keywords.deck("tiny")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decksWithPhrasesTooLongForTheHistoryAreIgnored() throws IOException {
+        String tooLong = "x".repeat(PhraseDictionary.MAX_PHRASE_BYTES + 1);
+        Files.writeString(directory.resolve("verbose.txt"), lines("Verbose", 30) + "\n" + tooLong);
+
+        KeywordRepository keywords = repository();
+
+        assertThat(keywords.decks()).extracting(Deck::getName).containsExactly("default");
+        assertThatThrownBy(() -> PhraseDictionary.of(List.of(tooLong))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(PhraseDictionary.of(List.of(tooLong.substring(1))).size()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadReplacesAndDropsDecksAndRestoresTheBuiltInDefault() throws IOException {
+        KeywordRepository keywords = repository();
+        Path holiday = directory.resolve("holiday.txt");
+        Path override = directory.resolve("default.txt");
+        Files.writeString(holiday, lines("Holiday", 30));
+        Files.writeString(override, lines("Override", 30));
+        keywords.reload(holiday);
+        keywords.reload(override);
+        assertThat(keywords.getKeywords()).hasSize(30).first().isEqualTo("Override 0");
+
+        Files.writeString(holiday, lines("Winter", 35));
+        keywords.reload(holiday);
+        assertThat(keywords.deck("holiday").getDictionary().size()).isEqualTo(35);
+
+        Files.delete(holiday);
+        Files.delete(override);
+        keywords.reload(holiday);
+        keywords.reload(override);
+        assertThat(keywords.findDictionary("holiday")).isNull();
+        assertThat(keywords.getKeywords()).hasSize(40).first().isEqualTo("Keyword 0");
+    }
+
+    @Test
+    void gamesKeepTheirDeckUntilTheNextReset() throws IOException {
+        Path holiday = directory.resolve("holiday.txt");
+        Files.writeString(holiday, lines("Holiday", 30));
+        KeywordRepository keywords = repository();
+        GameService game = GameServiceFixtures.game().keywords(keywords).boot();
+
+        game.resetGame(true, "holiday");
+        PlayerState player = game.registerPlayer("Ada");
+        Files.writeString(holiday, lines("Winter", 30));
+        keywords.reload(holiday);
+        List<String> card = game.previewScorecards(player.getId(), 1).get(0).getRows().get(0);
+
+        assertThat(game.getCurrentState().getDeck()).isEqualTo("holiday");
+        assertThat(card).allMatch(phrase -> phrase.startsWith("Holiday"));
+
+        game.resetGame(false);
+        game.startGame();
+        assertThat(game.drawNextNumber().getCurrentCall()).startsWith("Winter");
+    }
+}
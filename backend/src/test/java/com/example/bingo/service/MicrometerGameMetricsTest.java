@@ -0,0 +1,68 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PlayerState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class MicrometerGameMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerGameMetrics metrics = new MicrometerGameMetrics(registry);
+
+    private GameService game() {
+        return GameServiceFixtures.game()
+                .commands(GameCommandExecutor.locking(metrics))
+                .metrics(metrics)
+                .boot();
+    }
+
+    @Test
+    void timesCommandsAndCountsClaimsByOutcome() {
+        GameService game = game();
+        PlayerState player = game.registerPlayer("Ada");
+        game.claimWin(player.getId(), ClaimType.ROW);
+        String cardId = game.previewScorecards(player.getId(), 1).get(0).getId();
+        game.assignScorecard(player.getId(), cardId);
+        game.startGame();
+        game.claimWin(player.getId(), ClaimType.ROW);
+        while (game.getCurrentState().getRemainingCalls() > 0) {
+            game.drawNextNumber();
+        }
+        game.claimWin(player.getId(), ClaimType.DIAGONAL);
+        game.claimWin(player.getId(), ClaimType.DIAGONAL);
+
+        assertThat(registry.get("bingo.command.wait").tag("operation", "draw").timer().count()).isEqualTo(40);
+        // The repeated diagonal claim is answered from the claim cache without running a command.
+        assertThat(registry.get("bingo.command.hold").tag("operation", "claim").timer().count()).isEqualTo(3);
+        assertThat(registry.get("bingo.operation").tag("operation", "preview").timer().count()).isEqualTo(1);
+        assertThat(claims(ClaimType.ROW, "no_scorecard")).isEqualTo(1);
+        assertThat(claims(ClaimType.ROW, "incomplete")).isEqualTo(1);
+        assertThat(claims(ClaimType.DIAGONAL, "accepted")).isEqualTo(1);
+        assertThat(claims(ClaimType.DIAGONAL, "duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    void roomGaugesFollowTheGameUntilTheRoomIsDropped() {
+        GameService game = game();
+        Runnable stopMonitoring = metrics.monitorRoom("party", game);
+        game.registerPlayer("Ada");
+        game.registerPlayer("Grace");
+        game.startGame();
+        game.drawNextNumber();
+
+        assertThat(registry.get("bingo.room.players").tag("room", "party").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("bingo.room.calls.remaining").tag("room", "party").gauge().value()).isEqualTo(39);
+        assertThat(registry.get("bingo.room.card.pool").tag("room", "party").gauge().value())
+                .isEqualTo(game.availableScorecards());
+
+        stopMonitoring.run();
+        assertThat(registry.find("bingo.room.players").gauges()).isEmpty();
+    }
+
+    private double claims(ClaimType type, String outcome) {
+        return registry.get("bingo.claims").tag("type", type.name()).tag("outcome", outcome).counter().count();
+    }
+}
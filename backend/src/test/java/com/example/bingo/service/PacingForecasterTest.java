@@ -0,0 +1,89 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.example.bingo.dto.PacingForecastResponse;
+import com.example.bingo.dto.PatternForecastResponse;
+import com.example.bingo.model.ClaimType;
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.Scorecard;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PacingForecasterTest {
+
+    private static final PhraseDictionary PHRASES = PhraseDictionary.of(IntStream.range(0, 8)
+            .mapToObj(i -> "Keyword " + i)
+            .toList());
+
+    @Test
+    void drawsToCompleteAPatternFollowTheLatestOfItsCells() {
+        // Every phrase is on the card, so the corners complete on the last of 4 random draws out of 8.
+        Scorecard card = new Scorecard("a", 3, new int[] {0, 1, 2, 3, Scorecard.FREE_SPACE_ID, 4, 5, 6, 7}, PHRASES);
+        PacingForecaster forecaster = new PacingForecaster(1, List.of(card), new int[1], IntStream.range(0, 8).toArray(),
+                PHRASES.size(), WinPatterns.of(3, EnumSet.of(ClaimType.FOUR_CORNERS, ClaimType.FULL_CARD)), 3);
+
+        PacingForecastResponse forecast = forecaster.forecast(20_000, new SplittableRandom(7));
+
+        PatternForecastResponse corners = pattern(forecast, ClaimType.FOUR_CORNERS);
+        assertThat(corners.getContenders()).isEqualTo(1);
+        assertThat(corners.getDrawsToNextWinner().getMin()).isEqualTo(4);
+        assertThat(corners.getDrawsToNextWinner().getMax()).isEqualTo(8);
+        assertThat(corners.getDrawsToNextWinner().getMean()).isCloseTo(4 * 9 / 5.0, within(0.05));
+        assertThat(pattern(forecast, ClaimType.FULL_CARD).getDrawsToNextWinner().getP10()).isEqualTo(8);
+        assertThat(forecast.getDrawsToGameEnd().getP50()).isEqualTo(8);
+        assertThat(forecast.getTrials()).isEqualTo(20_000);
+    }
+
+    @Test
+    void calledPhrasesCountAsDrawnAndWinnersStopContending() {
+        Scorecard card = new Scorecard("a", 3, new int[] {0, 1, 2, 3, Scorecard.FREE_SPACE_ID, 4, 5, 6, 7}, PHRASES);
+        int rowWon = 1 << ClaimType.ROW.ordinal();
+        PacingForecaster forecaster = new PacingForecaster(1, List.of(card, card), new int[] {rowWon, rowWon},
+                new int[] {6, 7}, PHRASES.size(), WinPatterns.of(3, EnumSet.of(ClaimType.ROW, ClaimType.COLUMN)), 3);
+
+        PacingForecastResponse forecast = forecaster.forecast(100, new SplittableRandom(7));
+
+        assertThat(forecast.getRemainingCalls()).isEqualTo(2);
+        assertThat(pattern(forecast, ClaimType.ROW).getContenders()).isZero();
+        assertThat(pattern(forecast, ClaimType.ROW).getDrawsToNextWinner()).isNull();
+        // The first column (0, 3, 5) is already complete.
+        assertThat(pattern(forecast, ClaimType.COLUMN).getDrawsToNextWinner().getMax()).isZero();
+        assertThat(forecast.getDrawsToGameEnd().getMin()).isEqualTo(2);
+    }
+
+    @Test
+    void gameForecastIsReusedUntilTheGameChanges() {
+        GameSettings settings = new GameSettings();
+        settings.getCard().setPatterns(EnumSet.allOf(ClaimType.class));
+        GameService game = GameServiceFixtures.game().settings(settings).boot();
+        game.registerPlayersWithCards(List.of("Ada", "Grace", "Linus"));
+        game.startGame();
+        game.drawNextNumber();
+
+        PacingForecastResponse forecast = game.forecast(500);
+        assertThat(forecast.getCards()).isEqualTo(3);
+        assertThat(forecast.getRemainingCalls()).isEqualTo(39);
+        assertThat(forecast.getPatterns()).extracting(PatternForecastResponse::getClaimType)
+                .containsExactly(ClaimType.values());
+        assertThat(forecast.getPatterns()).allSatisfy(pattern ->
+                assertThat(pattern.getDrawsToNextWinner().getMax()).isBetween(1, 39));
+        assertThat(game.forecast(500)).isSameAs(forecast);
+
+        game.drawNextNumber();
+        assertThat(game.forecast(500)).isNotSameAs(forecast);
+        assertThatThrownBy(() -> game.forecast(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PatternForecastResponse pattern(PacingForecastResponse forecast, ClaimType type) {
+        return forecast.getPatterns().stream()
+                .filter(pattern -> pattern.getClaimType() == type)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.bingo.model.GameStatus;
+import com.example.bingo.model.PlayerState;
+import com.example.bingo.model.Winner;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PlayerEvictionTest {
+
+    private static final long LATER = TimeUnit.MINUTES.toNanos(31);
+
+    @TempDir
+    Path directory;
+
+    private static GameService game(Duration idleTimeout, int maxPlayers, boolean autoAdjudicate, GameJournal journal) {
+        GameSettings settings = new GameSettings();
+        settings.setAutoAdjudicate(autoAdjudicate);
+        settings.getPlayers().setIdleTimeout(idleTimeout);
+        settings.getPlayers().setMax(maxPlayers);
+        return GameServiceFixtures.game().settings(settings).journal(journal).boot();
+    }
+
+    private static GameService game() {
+        return game(Duration.ofMinutes(30), 100, false, GameJournal.NONE);
+    }
+
+    private static PlayerState joinWithCard(GameService game, String name) {
+        PlayerState player = game.registerPlayer(name);
+        String cardId = game.previewScorecards(player.getId(), 1).get(0).getId();
+        return game.assignScorecard(player.getId(), cardId);
+    }
+
+    @Test
+    void evictsOnlyPlayersIdleForLongerThanTheTimeout() {
+        GameService game = game();
+        PlayerState idle = joinWithCard(game, "Ada");
+        PlayerState active = game.registerPlayer("Grace");
+        long now = System.nanoTime();
+        active.touch(now + LATER);
+
+        assertThat(game.evictIdlePlayers(now + LATER)).isEqualTo(1);
+        assertThatThrownBy(() -> game.getPlayer(idle.getId())).isInstanceOf(IllegalArgumentException.class);
+        assertThat(game.getPlayer(active.getId()).getDisplayName()).isEqualTo("Grace");
+        assertThat(game.getCurrentState().getPlayerCount()).isEqualTo(1);
+        assertThat(game.registerPlayer(null).getDisplayName()).isEqualTo("Player-3");
+    }
+
+    @Test
+    void cardHoldersAreKeptUntilTheirGameEnds() {
+        GameService game = game();
+        PlayerState playing = joinWithCard(game, "Ada");
+        PlayerState watching = game.registerPlayer("Grace");
+        game.startGame();
+        long now = System.nanoTime();
+
+        assertThat(game.evictIdlePlayers(now + LATER)).isEqualTo(1);
+        assertThat(game.getCurrentState().getPlayerCount()).isEqualTo(1);
+
+        game.resetGame(false);
+        assertThat(game.evictIdlePlayers(System.nanoTime() + LATER / 2)).isZero();
+        assertThat(game.evictIdlePlayers(System.nanoTime() + LATER)).isEqualTo(1);
+        assertThat(game.getCurrentState().getPlayerCount()).isZero();
+        assertThatThrownBy(() -> game.getPlayer(playing.getId())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> game.getPlayer(watching.getId())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fullRoomRefusesJoinsUnlessIdlePlayersCanMakeWay() throws InterruptedException {
+        GameService crowded = game(Duration.ofMinutes(30), 2, false, GameJournal.NONE);
+        crowded.registerPlayer("Ada");
+        crowded.registerPlayer("Grace");
+        assertThatThrownBy(() -> crowded.registerPlayer("Linus")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> crowded.registerPlayersWithCards(List.of("Linus")))
+                .isInstanceOf(IllegalStateException.class);
+
+        GameService churning = game(Duration.ofMillis(1), 2, false, GameJournal.NONE);
+        churning.registerPlayer("Ada");
+        churning.registerPlayer("Grace");
+        Thread.sleep(5);
+        assertThat(churning.registerPlayer("Linus").getDisplayName()).isEqualTo("Linus");
+        assertThat(churning.getCurrentState().getPlayerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictedCardsLeaveTheIndexAndFreedSlotsServeNewCards() {
+        GameService game = game(Duration.ofMinutes(30), 100, true, GameJournal.NONE);
+        List<PlayerState> leaving = IntStream.range(0, 20).mapToObj(i -> joinWithCard(game, "Gone " + i)).toList();
+        assertThat(game.evictIdlePlayers(System.nanoTime() + LATER)).isEqualTo(leaving.size());
+        List<PlayerState> staying = IntStream.range(0, 20).mapToObj(i -> joinWithCard(game, "Here " + i)).toList();
+
+        game.startGame();
+        while (game.getCurrentState().getStatus() == GameStatus.IN_PROGRESS) {
+            game.drawNextNumber();
+        }
+
+        assertThat(game.getCurrentState().getWinners()).isNotEmpty()
+                .extracting(Winner::getPlayerId)
+                .allMatch(id -> staying.stream().anyMatch(player -> player.getId().equals(id)));
+    }
+
+    @Test
+    void evictionsAreJournaled() {
+        Path file = directory.resolve("room.journal");
+        FileGameJournal journal = new FileGameJournal(file, GameServiceFixtures.KEYWORDS::findDictionary);
+        GameService game = game(Duration.ofMinutes(30), 100, false, journal);
+        PlayerState gone = joinWithCard(game, "Ada");
+        PlayerState kept = joinWithCard(game, "Grace");
+        kept.touch(System.nanoTime() + LATER);
+        game.evictIdlePlayers(System.nanoTime() + LATER);
+        journal.flush();
+
+        GameService recovered = game(Duration.ofMinutes(30), 100, false,
+                new FileGameJournal(file, GameServiceFixtures.KEYWORDS::findDictionary));
+
+        assertThat(recovered.getCurrentState().getPlayerCount()).isEqualTo(1);
+        assertThat(recovered.getPlayer(kept.getId()).getScorecard()).isNotNull();
+        assertThatThrownBy(() -> recovered.getPlayer(gone.getId())).isInstanceOf(IllegalArgumentException.class);
+    }
+}
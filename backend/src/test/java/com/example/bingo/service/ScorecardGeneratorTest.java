@@ -1,9 +1,14 @@
 package com.example.bingo.service;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.example.bingo.model.PhraseDictionary;
 import com.example.bingo.model.Scorecard;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
@@ -25,4 +30,74 @@ class ScorecardGeneratorTest {
             }
         }));
     }
+
+    @Test
+    void partialShuffleIsReproducibleFromTheSeedButIdsAreNot() {
+        PhraseDictionary phrases = PhraseDictionary.of(IntStream.range(0, 30)
+                .mapToObj(i -> "Keyword " + i)
+                .toList());
+        SplittableRandom first = new SplittableRandom(7);
+        SplittableRandom second = new SplittableRandom(7);
+        for (int card = 0; card < 200; card++) {
+            Scorecard left = ScorecardGenerator.create(first, phrases);
+            Scorecard right = ScorecardGenerator.create(second, phrases);
+            assertThat(left.getRows()).isEqualTo(right.getRows());
+            // Ids are credentials, so the seed that reproduces the layout must not reproduce them.
+            assertThat(left.getId()).isNotEqualTo(right.getId());
+            int[] ids = IntStream.range(0, left.getCellCount()).map(left::phraseIdAt).toArray();
+            assertThat(Arrays.stream(ids).filter(id -> id != Scorecard.FREE_SPACE_ID).distinct().count()).isEqualTo(24);
+        }
+    }
+
+    @Test
+    void buildsEverySupportedSizeWithAFreeCentreOnlyWhenThereIsOne() {
+        PhraseDictionary phrases = PhraseDictionary.of(IntStream.range(0, 80)
+                .mapToObj(i -> "Keyword " + i)
+                .toList());
+
+        for (int size = ScorecardGenerator.MIN_CARD_SIZE; size <= ScorecardGenerator.MAX_CARD_SIZE; size++) {
+            Scorecard card = ScorecardGenerator.create(phrases, size);
+            int[] ids = IntStream.range(0, card.getCellCount()).map(card::phraseIdAt).toArray();
+            assertThat(card.getSize()).isEqualTo(size);
+            assertThat(card.getCellCount()).isEqualTo(size * size);
+            assertThat(Arrays.stream(ids).filter(id -> id != Scorecard.FREE_SPACE_ID).distinct().count())
+                    .isEqualTo(ScorecardGenerator.phrasesPerCard(size));
+            assertThat(ids[size * size / 2] == Scorecard.FREE_SPACE_ID).isEqualTo(size % 2 == 1);
+        }
+        assertThatThrownBy(() -> ScorecardGenerator.create(phrases, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScorecardGenerator.create(PhraseDictionary.of(List.of("a", "b")), 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bulkGenerationBuildsEveryRequestedCard() {
+        PhraseDictionary phrases = PhraseDictionary.of(IntStream.range(0, 60)
+                .mapToObj(i -> "Keyword " + i)
+                .toList());
+
+        List<Scorecard> cards = ScorecardGenerator.createMany(5_000, phrases);
+
+        assertThat(cards).hasSize(5_000);
+        assertThat(cards).extracting(Scorecard::getId).doesNotHaveDuplicates();
+        assertThat(cards).allSatisfy(card -> assertThat(card.getValue(2, 2)).isEqualTo(ScorecardGenerator.FREE_SPACE));
+    }
+
+    @Test
+    void fingerprintsFollowPhrasePositions() {
+        PhraseDictionary phrases = PhraseDictionary.of(IntStream.range(0, 30)
+                .mapToObj(i -> "Keyword " + i)
+                .toList());
+        int[] cells = IntStream.range(0, 25).map(i -> i == 12 ? Scorecard.FREE_SPACE_ID : i).toArray();
+        Scorecard card = new Scorecard("a", 5, cells, phrases);
+        Scorecard sameLayout = new Scorecard("b", 5, cells, phrases);
+        int[] swapped = cells.clone();
+        swapped[0] = cells[1];
+        swapped[1] = cells[0];
+        Scorecard shuffled = new Scorecard("c", 5, swapped, phrases);
+
+        assertThat(sameLayout.fingerprintHigh()).isEqualTo(card.fingerprintHigh());
+        assertThat(sameLayout.fingerprintLow()).isEqualTo(card.fingerprintLow());
+        assertThat(shuffled.fingerprintHigh() == card.fingerprintHigh()
+                && shuffled.fingerprintLow() == card.fingerprintLow()).isFalse();
+    }
 }
@@ -0,0 +1,109 @@
+package com.example.bingo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.bingo.model.PhraseDictionary;
+import com.example.bingo.model.Scorecard;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ScorecardPoolTest {
+
+    private static final PhraseDictionary PHRASES = PhraseDictionary.of(IntStream.range(0, 40)
+            .mapToObj(i -> "Keyword " + i)
+            .toList());
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Test
+    void refillsBetweenWatermarksInTheBackground() {
+        List<Runnable> producer = new ArrayList<>();
+        ScorecardPool pool = new ScorecardPool(() -> PHRASES, () -> 5, producer::add, 5, 10, LEASE);
+
+        pool.clear();
+        assertThat(producer).hasSize(1);
+        producer.remove(0).run();
+        assertThat(pool.size()).isEqualTo(10);
+
+        UUID player = UUID.randomUUID();
+        for (Scorecard card : pool.preview(player, 6)) {
+            assertThat(pool.take(player, card.getId())).isSameAs(card);
+        }
+        assertThat(pool.size()).isLessThan(5);
+        assertThat(producer).hasSize(1);
+        producer.remove(0).run();
+        assertThat(pool.size()).isEqualTo(10);
+    }
+
+    @Test
+    void buildsMissingCardsInlineOnlyWhenTheReserveIsTooSmall() {
+        ScorecardPool pool = new ScorecardPool(() -> PHRASES, () -> 5, task -> { }, 2, 4, LEASE);
+
+        assertThat(pool.preview(null, 6)).hasSize(6).doesNotHaveDuplicates();
+        assertThat(pool.leasedCount()).isEqualTo(6);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void previewBuiltAcrossAResetIsRebuiltForTheNewDeck() {
+        PhraseDictionary reworded = PhraseDictionary.of(IntStream.range(0, 40)
+                .mapToObj(i -> "Phrase " + i)
+                .toList());
+        AtomicReference<ScorecardPool> pool = new AtomicReference<>();
+        AtomicInteger lookups = new AtomicInteger();
+        // The first build reads the old deck, then a reset switches the game to the new one.
+        pool.set(new ScorecardPool(() -> {
+            if (lookups.getAndIncrement() == 0) {
+                pool.get().clear();
+                return PHRASES;
+            }
+            return reworded;
+        }, () -> 5, task -> { }, 0, 4, LEASE));
+
+        List<Scorecard> cards = pool.get().preview(null, 3);
+
+        assertThat(cards).hasSize(3).allSatisfy(card -> assertThat(card.getDictionary()).isSameAs(reworded));
+        assertThat(pool.get().leasedCount()).isEqualTo(3);
+        assertThat(pool.get().takeMany(2, pool.get().generation())).allSatisfy(card -> assertThat(card.getDictionary()).isSameAs(reworded));
+    }
+
+    @Test
+    void leasesKeepPreviewsDisjointUntilTheyExpire() {
+        AtomicLong clock = new AtomicLong();
+        List<Runnable> producer = new ArrayList<>();
+        ScorecardPool pool = new ScorecardPool(() -> PHRASES, () -> 5, producer::add, 0, 12, LEASE, clock::get);
+        pool.clear();
+        producer.remove(0).run();
+        UUID ada = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+
+        List<Scorecard> adaCards = pool.preview(ada, 6);
+        List<Scorecard> bobCards = pool.preview(bob, 6);
+        assertThat(bobCards).doesNotContainAnyElementsOf(adaCards);
+        assertThat(pool.take(bob, adaCards.get(0).getId())).isNull();
+
+        clock.addAndGet(LEASE.toNanos());
+        assertThat(pool.leasedCount()).isZero();
+        assertThat(pool.size()).isEqualTo(12);
+        assertThat(pool.take(bob, adaCards.get(0).getId())).isSameAs(adaCards.get(0));
+    }
+
+    @Test
+    void newPreviewReturnsThePlayersEarlierLeases() {
+        ScorecardPool pool = new ScorecardPool(() -> PHRASES, () -> 5, task -> { }, 0, 4, LEASE);
+        UUID player = UUID.randomUUID();
+
+        List<Scorecard> first = pool.preview(player, 3);
+        assertThat(pool.preview(player, 2)).isSubsetOf(first);
+
+        assertThat(pool.leasedCount()).isEqualTo(2);
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(pool.take(player, first.get(0).getId())).isSameAs(first.get(0));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.bingo.service;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SerialCommandExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void appliesConcurrentCommandsOneAtATime() throws Exception {
+        GameCommandExecutor commands = GameCommandExecutor.serial(pool);
+        int[] counter = new int[1];
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int caller = 0; caller < 8; caller++) {
+                futures.add(callers.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        commands.execute(() -> counter[0]++);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(commands.execute(() -> counter[0])).isEqualTo(8_000);
+    }
+
+    @Test
+    void runsNestedCommandsInlineAndPropagatesFailures() {
+        GameCommandExecutor commands = GameCommandExecutor.serial(pool);
+
+        assertThat(commands.execute(() -> commands.execute(() -> "nested"))).isEqualTo("nested");
+        assertThatThrownBy(() -> commands.execute(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.bingo.service;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.bingo.model.ClaimType;
+import java.util.EnumSet;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class WinPatternsTest {
+
+    @Test
+    void matchesCompletedLines() {
+        WinPatterns patterns = WinPatterns.all(5);
+        long secondRow = 0b11111L << 5;
+        long thirdColumn = (1L << 2) | (1L << 7) | (1L << 12) | (1L << 17) | (1L << 22);
+        long antiDiagonal = (1L << 4) | (1L << 8) | (1L << 12) | (1L << 16) | (1L << 20);
+
+        assertThat(patterns.matches(ClaimType.ROW, secondRow, 0)).isTrue();
+        assertThat(patterns.matches(ClaimType.COLUMN, secondRow, 0)).isFalse();
+        assertThat(patterns.matches(ClaimType.COLUMN, thirdColumn, 0)).isTrue();
+        assertThat(patterns.matches(ClaimType.DIAGONAL, antiDiagonal, 0)).isTrue();
+        assertThat(patterns.matches(ClaimType.FULL_CARD, secondRow | thirdColumn, 0)).isFalse();
+        assertThat(patterns.matches(ClaimType.FULL_CARD, (1L << 25) - 1, 0)).isTrue();
+    }
+
+    @Test
+    void compilesShapesThatSpanBothWordsOfANineByNineCard() {
+        WinPatterns patterns = WinPatterns.all(9);
+        long[] corners = cells(0, 8, 72, 80);
+        long[] frame = cells(IntStream.range(0, 81)
+                .filter(cell -> cell / 9 == 0 || cell / 9 == 8 || cell % 9 == 0 || cell % 9 == 8)
+                .toArray());
+        long[] cross = cells(IntStream.range(0, 81)
+                .filter(cell -> cell / 9 == cell % 9 || cell / 9 + cell % 9 == 8)
+                .toArray());
+        long[] tee = cells(IntStream.range(0, 81).filter(cell -> cell < 9 || cell % 9 == 4).toArray());
+
+        assertThat(patterns.matches(ClaimType.FOUR_CORNERS, corners[0], corners[1])).isTrue();
+        assertThat(patterns.matches(ClaimType.FOUR_CORNERS, corners[0], 0)).isFalse();
+        assertThat(patterns.matches(ClaimType.FRAME, frame[0], frame[1])).isTrue();
+        assertThat(patterns.matches(ClaimType.FRAME, frame[0], frame[1] & ~(1L << (80 - 64)))).isFalse();
+        assertThat(patterns.matches(ClaimType.X, cross[0], cross[1])).isTrue();
+        assertThat(patterns.matches(ClaimType.DIAGONAL, cross[0], cross[1])).isTrue();
+        assertThat(patterns.matches(ClaimType.T, tee[0], tee[1])).isTrue();
+        assertThat(patterns.matches(ClaimType.T, cross[0], cross[1])).isFalse();
+        assertThat(patterns.matches(ClaimType.FULL_CARD, -1L, (1L << 17) - 1)).isTrue();
+        assertThat(patterns.matches(ClaimType.FULL_CARD, -1L, (1L << 16) - 1)).isFalse();
+    }
+
+    @Test
+    void completesOnlyThroughTheMarkedCell() {
+        WinPatterns patterns = WinPatterns.all(4);
+        long[] corners = cells(0, 3, 12, 15);
+
+        assertThat(patterns.completes(ClaimType.FOUR_CORNERS, 15, corners[0], corners[1])).isTrue();
+        assertThat(patterns.completes(ClaimType.FOUR_CORNERS, 5, corners[0], corners[1])).isFalse();
+        assertThat(patterns.completes(ClaimType.ROW, 15, corners[0], corners[1])).isFalse();
+    }
+
+    @Test
+    void onlyPlaysTheChosenPatternsOnSupportedSizes() {
+        WinPatterns patterns = WinPatterns.of(3, EnumSet.of(ClaimType.FRAME));
+        long full = (1L << 9) - 1;
+
+        assertThat(patterns.plays(ClaimType.FRAME)).isTrue();
+        assertThat(patterns.matches(ClaimType.FRAME, full, 0)).isTrue();
+        assertThat(patterns.plays(ClaimType.ROW)).isFalse();
+        assertThat(patterns.matches(ClaimType.ROW, full, 0)).isFalse();
+        assertThatThrownBy(() -> WinPatterns.all(10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WinPatterns.of(5, EnumSet.noneOf(ClaimType.class)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long[] cells(int... cells) {
+        long[] words = new long[2];
+        for (int cell : cells) {
+            words[cell >>> 6] |= 1L << cell;
+        }
+        return words;
+    }
+}
@@ -10,6 +10,17 @@ const PLAYER_STORAGE_KEY = 'team-bingo-player-id';
 const HOST_ACCESS_STORAGE_KEY = 'team-bingo-host-access';
 const HOST_ACCESS_KEY = process.env.REACT_APP_HOST_ACCESS_KEY ?? 'TEAM-HOST-KEY';
 const HOST_IDENTIFIER = process.env.REACT_APP_HOST_IDENTIFIER ?? 'HOST-LEAD-001';
+const DEFAULT_PATTERNS: ClaimType[] = ['ROW', 'COLUMN', 'DIAGONAL', 'FULL_CARD'];
+const PATTERN_LABELS: Record<ClaimType, string> = {
+  ROW: 'Row',
+  COLUMN: 'Column',
+  DIAGONAL: 'Diagonal',
+  FULL_CARD: 'Full card',
+  FOUR_CORNERS: 'Four corners',
+  X: 'X',
+  T: 'T',
+  FRAME: 'Frame',
+};
 
 export default function App() {
   const [mode, setMode] = useState<Mode>('player');
@@ -85,6 +96,19 @@ export default function App() {
   );
 }
 
+/**
+ * Game state that only moves forward: a state older than the one shown, such as a host action's
+ * response arriving after the stream already pushed a later draw, is ignored.
+ */
+function useLatestGameState() {
+  const [gameState, setGameState] = useState<GameState | null>(null);
+  const applyGameState = useCallback(
+    (state: GameState) => setGameState((current) => (current && current.version > state.version ? current : state)),
+    [],
+  );
+  return [gameState, applyGameState] as const;
+}
+
 function PlayerView() {
   const [playerId, setPlayerId] = useState<string | null>(() => localStorage.getItem(PLAYER_STORAGE_KEY));
   const [playerIdInput, setPlayerIdInput] = useState(() => localStorage.getItem(PLAYER_STORAGE_KEY) ?? '');
@@ -92,26 +116,19 @@ function PlayerView() {
   const [player, setPlayer] = useState<Player | null>(null);
   const [availableCards, setAvailableCards] = useState<Scorecard[]>([]);
   const [previewIndex, setPreviewIndex] = useState(0);
-  const [gameState, setGameState] = useState<GameState | null>(null);
+  const [gameState, applyGameState] = useLatestGameState();
   const [markedEntries, setMarkedEntries] = useState<Set<string>>(new Set([FREE_SPACE_TEXT]));
   const [message, setMessage] = useState<string | null>(null);
   const [error, setError] = useState<string | null>(null);
   const [loading, setLoading] = useState(false);
 
-  const refreshGameState = useCallback(async () => {
-    try {
-      const state = await api.getGameState();
-      setGameState(state);
-    } catch (err) {
-      setError((err as Error).message);
-    }
-  }, []);
-
-  useEffect(() => {
-    refreshGameState();
-    const interval = setInterval(refreshGameState, 4000);
-    return () => clearInterval(interval);
-  }, [refreshGameState]);
+  useEffect(
+    () =>
+      api.subscribeGameState(applyGameState, (err) => {
+        setError(err.message);
+      }),
+    [applyGameState],
+  );
 
   useEffect(() => {
     if (!playerId) {
@@ -151,7 +168,7 @@ function PlayerView() {
 
   const showCards = async () => {
     try {
-      const result = await api.getScorecards();
+      const result = await api.getScorecards(playerId ?? undefined);
       setAvailableCards(result.scorecards);
       setPreviewIndex(0);
       setMessage('Tap one card to lock it in.');
@@ -213,7 +230,6 @@ function PlayerView() {
     try {
       const result = await api.claimWin(playerId, type);
       setMessage(result.message);
-      refreshGameState();
     } catch (err) {
       setError((err as Error).message);
     }
@@ -334,13 +350,14 @@ function PlayerView() {
                 onToggle={toggleEntry}
               />
               <p className="muted small">
-                Tap a square when you hear it. Called phrases glow automatically, and the center is always free.
+                Tap a square when you hear it. Called phrases glow automatically, and the center of an odd-sized card is always free.
               </p>
               <div className="claim-controls">
-                <button onClick={() => sendClaim('ROW')}>Row</button>
-                <button onClick={() => sendClaim('COLUMN')}>Column</button>
-                <button onClick={() => sendClaim('DIAGONAL')}>Diagonal</button>
-                <button onClick={() => sendClaim('FULL_CARD')}>Full card</button>
+                {(gameState?.patterns ?? DEFAULT_PATTERNS).map((type) => (
+                  <button key={type} onClick={() => sendClaim(type)}>
+                    {PATTERN_LABELS[type]}
+                  </button>
+                ))}
               </div>
             </div>
           )}
@@ -359,30 +376,23 @@ interface HostViewProps {
 }
 
 function HostView({ hostIdentifier, hostSecret, onLockHost }: HostViewProps) {
-  const [gameState, setGameState] = useState<GameState | null>(null);
+  const [gameState, applyGameState] = useLatestGameState();
   const [error, setError] = useState<string | null>(null);
   const [spinning, setSpinning] = useState(false);
   const [dropPlayers, setDropPlayers] = useState(false);
 
-  const refresh = useCallback(async () => {
-    try {
-      const state = await api.getGameState();
-      setGameState(state);
-    } catch (err) {
-      setError((err as Error).message);
-    }
-  }, []);
-
-  useEffect(() => {
-    refresh();
-    const interval = setInterval(refresh, 2500);
-    return () => clearInterval(interval);
-  }, [refresh]);
+  useEffect(
+    () =>
+      api.subscribeGameState(applyGameState, (err) => {
+        setError(err.message);
+      }),
+    [applyGameState],
+  );
 
   const startGame = async () => {
     try {
       const state = await api.startGame(hostSecret);
-      setGameState(state);
+      applyGameState(state);
       setError(null);
     } catch (err) {
       setError((err as Error).message);
@@ -393,7 +403,7 @@ function HostView({ hostIdentifier, hostSecret, onLockHost }: HostViewProps) {
     try {
       setSpinning(true);
       const state = await api.drawNumber(hostSecret);
-      setGameState(state);
+      applyGameState(state);
       setError(null);
     } catch (err) {
       setError((err as Error).message);
@@ -405,7 +415,7 @@ function HostView({ hostIdentifier, hostSecret, onLockHost }: HostViewProps) {
   const resetGame = async () => {
     try {
       const state = await api.resetGame(dropPlayers, hostSecret);
-      setGameState(state);
+      applyGameState(state);
       setError(null);
     } catch (err) {
       setError((err as Error).message);
@@ -37,6 +37,66 @@ async function safeMessage(response: Response) {
   }
 }
 
+const POLL_INTERVAL_MS = 4000;
+const RECONNECT_DELAY_MS = 15000;
+
+/**
+ * Subscribes to server-pushed game state. Polls instead when the browser has no EventSource, and
+ * while the stream is down after the browser gave up reconnecting, trying the stream again every
+ * {@link RECONNECT_DELAY_MS}. Returns a function that closes the subscription.
+ */
+function subscribeGameState(onState: (state: GameState) => void, onError: (error: Error) => void) {
+  let closed = false;
+  let source: EventSource | null = null;
+  let poller: ReturnType<typeof setInterval> | undefined;
+  let reconnect: ReturnType<typeof setTimeout> | undefined;
+
+  const poll = () =>
+    request<GameState>('/game/state')
+      .then((state) => !closed && onState(state))
+      .catch((err) => !closed && onError(err as Error));
+  const startPolling = () => {
+    if (poller === undefined) {
+      poll();
+      poller = setInterval(poll, POLL_INTERVAL_MS);
+    }
+  };
+  const stopPolling = () => {
+    clearInterval(poller);
+    poller = undefined;
+  };
+
+  const connect = () => {
+    const stream = new EventSource(`${API_BASE}/game/stream`);
+    source = stream;
+    stream.addEventListener('state', (event) => {
+      stopPolling();
+      onState(JSON.parse((event as MessageEvent).data) as GameState);
+    });
+    stream.onerror = () => {
+      // While CONNECTING the browser retries by itself; CLOSED means it stopped for good.
+      if (stream.readyState === EventSource.CLOSED && !closed) {
+        source = null;
+        onError(new Error('Lost connection to the game server, retrying'));
+        startPolling();
+        reconnect = setTimeout(connect, RECONNECT_DELAY_MS);
+      }
+    };
+  };
+
+  if (typeof EventSource === 'undefined') {
+    startPolling();
+  } else {
+    connect();
+  }
+  return () => {
+    closed = true;
+    source?.close();
+    stopPolling();
+    clearTimeout(reconnect);
+  };
+}
+
 export const api = {
   createPlayer: (displayName?: string) =>
     request<Player>('/players', {
@@ -46,7 +106,10 @@ export const api = {
 
   getPlayer: (playerId: string) => request<Player>(`/players/${playerId}`),
 
-  getScorecards: (count = 6) => request<{ scorecards: Scorecard[] }>(`/scorecards?count=${count}`),
+  getScorecards: (playerId?: string, count = 6) =>
+    request<{ scorecards: Scorecard[] }>(
+      `/scorecards?count=${count}${playerId ? `&playerId=${encodeURIComponent(playerId)}` : ''}`
+    ),
 
   selectScorecard: (playerId: string, scorecardId: string) =>
     request<Player>(`/players/${playerId}/scorecard`, {
@@ -56,6 +119,8 @@ export const api = {
 
   getGameState: () => request<GameState>('/game/state'),
 
+  subscribeGameState,
+
   startGame: (hostKey: string) =>
     request<GameState>('/game/start', {
       method: 'POST',
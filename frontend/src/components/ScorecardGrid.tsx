@@ -1,3 +1,4 @@
+import { CSSProperties } from 'react';
 import { Scorecard } from '../types';
 import './ScorecardGrid.css';
 
@@ -22,10 +23,12 @@ export function ScorecardGrid({
 }: ScorecardGridProps) {
   const calledSet = new Set(calledEntries);
   const isInteractive = Boolean(onToggle);
+  const size = card.rows.length;
+  const style = { '--card-size': size } as CSSProperties;
 
   return (
-    <div className={`scorecard ${compact ? 'scorecard--compact' : ''}`}>
-      {headers.map((label) => (
+    <div className={`scorecard ${compact ? 'scorecard--compact' : ''}`} style={style}>
+      {size === headers.length && headers.map((label) => (
         <div key={label} className="scorecard__header">
           {label}
         </div>
@@ -1,4 +1,12 @@
-export type ClaimType = 'ROW' | 'COLUMN' | 'DIAGONAL' | 'FULL_CARD';
+export type ClaimType =
+  | 'ROW'
+  | 'COLUMN'
+  | 'DIAGONAL'
+  | 'FULL_CARD'
+  | 'FOUR_CORNERS'
+  | 'X'
+  | 'T'
+  | 'FRAME';
 
 export interface Scorecard {
   id: string;
@@ -21,7 +29,10 @@ export interface Winner {
 export type GameStatus = 'WAITING_FOR_HOST' | 'IN_PROGRESS' | 'COMPLETE';
 
 export interface GameState {
+  version: number;
   status: GameStatus;
+  cardSize?: number;
+  patterns?: ClaimType[];
   currentCall?: string | null;
   calledPhrases: string[];
   remainingCalls: number;